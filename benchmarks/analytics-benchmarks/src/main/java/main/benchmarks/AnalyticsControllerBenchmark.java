@@ -0,0 +1,48 @@
+package main.benchmarks;
+
+import main.service.DashboardService;
+import main.web.AnalyticsController;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AnalyticsControllerBenchmark {
+
+    private AnalyticsController analyticsController;
+    private DashboardService dashboardService;
+
+    @Setup(Level.Trial)
+    public void setup(AnalyticsState analytics) {
+        analyticsController = analytics.bean(AnalyticsController.class);
+        dashboardService = analytics.bean(DashboardService.class);
+    }
+
+    @Benchmark
+    public Map<String, Object> getDashboard() {
+        return analyticsController.getDashboard();
+    }
+
+    // The startup aggregation that getDashboard relies on, measured on its own.
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void rebuildAggregates() {
+        dashboardService.rebuild();
+    }
+}
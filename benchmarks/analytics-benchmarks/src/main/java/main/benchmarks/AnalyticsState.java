@@ -0,0 +1,83 @@
+package main.benchmarks;
+
+import main.AnalyticsMicroserviceApplication;
+import main.entity.Booking;
+import main.entity.Event;
+import main.entity.User;
+import main.repositories.BookingRepository;
+import main.repositories.EventRepository;
+import main.repositories.UserRepository;
+import main.service.DashboardService;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Boots the analytics service against an in-memory H2 database once per trial, seeds
+ * users, events and bookings, and rebuilds the dashboard aggregates from them.
+ */
+@State(Scope.Benchmark)
+public class AnalyticsState {
+
+    @Param("1000")
+    public int userCount;
+
+    @Param("500")
+    public int eventCount;
+
+    @Param("50000")
+    public int bookingCount;
+
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(AnalyticsMicroserviceApplication.class)
+                .profiles("benchmark")
+                .run();
+        seed();
+        bean(DashboardService.class).rebuild();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    private void seed() {
+        List<User> users = new ArrayList<>(userCount);
+        for (int i = 0; i < userCount; i++) {
+            users.add(new User(UUID.randomUUID(), "bench-user-" + i));
+        }
+        bean(UserRepository.class).saveAll(users);
+
+        // A few events end up nearly sold out so the seat warnings are populated too.
+        List<Event> events = new ArrayList<>(eventCount);
+        for (int i = 0; i < eventCount; i++) {
+            int totalSeats = i % 50 == 0 ? bookingCount / eventCount + 3 : bookingCount;
+            events.add(new Event(UUID.randomUUID(), "Benchmark Event " + i, totalSeats, 10.0 + i % 40));
+        }
+        bean(EventRepository.class).saveAll(events);
+
+        List<Booking> bookings = new ArrayList<>(bookingCount);
+        for (int i = 0; i < bookingCount; i++) {
+            Event event = events.get(i % eventCount);
+            bookings.add(new Booking(UUID.randomUUID(), event.getId(), users.get(i % userCount).getId(),
+                    1, event.getPrice()));
+        }
+        bean(BookingRepository.class).saveAll(bookings);
+    }
+}
@@ -0,0 +1,80 @@
+package main.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import main.web.dto.BookingAnalyticsDTO;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Calls BookingRestController over HTTP. Business rejections (sold out, already
+ * confirmed) come back as the HTML error page with status 200, so an empty result means
+ * the app refused the request; transport failures and other statuses are thrown.
+ */
+final class BookingApiClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient http;
+    private final URI bookings;
+    private final ObjectMapper objectMapper;
+
+    BookingApiClient(URI baseUri, ObjectMapper objectMapper) {
+        this.http = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.bookings = baseUri.resolve("/api/user/bookings");
+        this.objectMapper = objectMapper;
+    }
+
+    // Any authenticated call opens the session; an unknown booking id keeps it read-only.
+    boolean logIn(Shopper shopper) throws IOException, InterruptedException {
+        send(shopper, HttpRequest.newBuilder(URI.create(bookings + "/" + UUID.randomUUID() + "/status")).GET());
+        return shopper.sessionCookie() != null;
+    }
+
+    Optional<BookingAnalyticsDTO> create(Shopper shopper, UUID eventId, int seats)
+            throws IOException, InterruptedException {
+        BookingAnalyticsDTO request = new BookingAnalyticsDTO(null, eventId, shopper.id(), seats, 0);
+        return send(shopper, HttpRequest.newBuilder(bookings)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(request))));
+    }
+
+    Optional<BookingAnalyticsDTO> confirm(Shopper shopper, UUID bookingId) throws IOException, InterruptedException {
+        return send(shopper, HttpRequest.newBuilder(URI.create(bookings + "/confirm/" + bookingId))
+                .POST(HttpRequest.BodyPublishers.noBody()));
+    }
+
+    private Optional<BookingAnalyticsDTO> send(Shopper shopper, HttpRequest.Builder request)
+            throws IOException, InterruptedException {
+        request.timeout(REQUEST_TIMEOUT).header("Authorization", shopper.authorization());
+        String session = shopper.sessionCookie();
+        if (session != null) {
+            request.header("Cookie", session);
+        }
+
+        HttpResponse<byte[]> response = http.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        response.headers().allValues("Set-Cookie").stream()
+                .filter(cookie -> cookie.startsWith("JSESSIONID="))
+                .findFirst()
+                .map(cookie -> cookie.split(";", 2)[0])
+                .ifPresent(shopper::sessionCookie);
+
+        if (response.statusCode() != 200) {
+            throw new IOException("Unexpected HTTP " + response.statusCode() + " from " + response.uri());
+        }
+        boolean json = response.headers().firstValue("Content-Type")
+                .filter(type -> type.startsWith("application/json"))
+                .isPresent();
+        return json
+                ? Optional.of(objectMapper.readValue(response.body(), BookingAnalyticsDTO.class))
+                : Optional.empty();
+    }
+}
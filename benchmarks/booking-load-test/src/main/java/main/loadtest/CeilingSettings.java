@@ -0,0 +1,26 @@
+package main.loadtest;
+
+import java.time.Duration;
+
+/**
+ * Settings for {@link ConcurrencyCeilingTest}, read from {@code -Dloadtest.*} system
+ * properties. Concurrency doubles from {@code concurrency.start} up to
+ * {@code concurrency.max}, holding each level for {@code step}.
+ */
+record CeilingSettings(boolean virtualThreads,
+                       Duration downstreamLatency,
+                       int startConcurrency,
+                       int maxConcurrency,
+                       Duration step,
+                       Duration latencySlo) {
+
+    static CeilingSettings fromSystemProperties() {
+        return new CeilingSettings(
+                Boolean.getBoolean("loadtest.virtual-threads"),
+                Duration.parse(System.getProperty("loadtest.downstream-latency", "PT0.2S")),
+                Integer.getInteger("loadtest.concurrency.start", 100),
+                Integer.getInteger("loadtest.concurrency.max", 12800),
+                Duration.parse(System.getProperty("loadtest.step", "PT15S")),
+                Duration.parse(System.getProperty("loadtest.latency-slo", "PT1S")));
+    }
+}
@@ -0,0 +1,203 @@
+package main.loadtest;
+
+import main.EventBookingPlatformApplication;
+import main.entities.Role;
+import main.entities.User;
+import main.repositories.UserRepository;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Finds how many concurrent requests an embedded main-app sustains when every request
+ * blocks on a slow downstream call: the admin dashboard, which waits on the analytics
+ * service through Feign. Closed-loop clients double at each step until a step has errors
+ * or its p99 exceeds the latency SLO. Run it once with platform threads and once with
+ * {@code -Dloadtest.virtual-threads=true}, both on Java 21+ with the same {@code -Xmx}, and
+ * compare the highest sustained level and the heap it needed.
+ */
+public final class ConcurrencyCeilingTest {
+
+    private static final String ADMIN_PASSWORD = "loadtest-password";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final CeilingSettings settings;
+    private final URI dashboard;
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private Shopper admin;
+
+    private ConcurrencyCeilingTest(CeilingSettings settings, URI baseUri) {
+        this.settings = settings;
+        this.dashboard = baseUri.resolve("/admin/analytics/dashboard");
+    }
+
+    public static void main(String[] args) throws Exception {
+        CeilingSettings settings = CeilingSettings.fromSystemProperties();
+        if (settings.virtualThreads() && Runtime.version().feature() < 21) {
+            System.out.println("Warning: virtual threads need Java 21+, this run uses platform threads");
+        }
+
+        int ceiling;
+        try (StubAnalyticsServer analytics = new StubAnalyticsServer(settings.downstreamLatency(),
+                OnSaleLoadTest.newClientExecutor())) {
+            analytics.start();
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(EventBookingPlatformApplication.class)
+                    .profiles("loadtest")
+                    .properties("spring.threads.virtual.enabled=" + settings.virtualThreads())
+                    .run(args);
+            try {
+                URI baseUri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+                ConcurrencyCeilingTest test = new ConcurrencyCeilingTest(settings, baseUri);
+                test.seedAdmin(context);
+                ceiling = test.run();
+            } finally {
+                context.close();
+            }
+        }
+        System.exit(ceiling > 0 ? 0 : 1);
+    }
+
+    private void seedAdmin(ConfigurableApplicationContext context) {
+        User user = context.getBean(UserRepository.class).save(User.builder()
+                .username("loadtest-admin")
+                .email("admin@loadtest.local")
+                .password(context.getBean(PasswordEncoder.class).encode(ADMIN_PASSWORD))
+                .name("Load Test Admin")
+                .role(Role.ADMIN)
+                .active(true)
+                .build());
+        admin = new Shopper(user.getId(), user.getUsername(), ADMIN_PASSWORD);
+    }
+
+    private int run() throws Exception {
+        if (fetchDashboard() != 200) {
+            throw new IllegalStateException("The admin dashboard did not load, check the stub analytics service");
+        }
+
+        System.out.printf("%n%s threads, downstream latency %d ms, max heap %d MB, p99 SLO %d ms%n",
+                settings.virtualThreads() ? "Virtual" : "Platform", settings.downstreamLatency().toMillis(),
+                Runtime.getRuntime().maxMemory() >> 20, settings.latencySlo().toMillis());
+        System.out.printf("%12s %12s %10s %10s %10s %10s %14s %10s%n",
+                "concurrency", "requests/s", "p50 ms", "p99 ms", "max ms", "errors", "peak heap MB", "threads");
+
+        int sustained = 0;
+        for (int level = settings.startConcurrency(); level <= settings.maxConcurrency(); level *= 2) {
+            boolean passed;
+            try {
+                passed = step(level);
+            } catch (OutOfMemoryError e) {
+                System.out.printf("%12d out of memory%n", level);
+                passed = false;
+            }
+            if (!passed) {
+                break;
+            }
+            sustained = level;
+        }
+
+        System.out.printf("%nHighest sustained concurrency: %d%n", sustained);
+        return sustained;
+    }
+
+    private boolean step(int concurrency) throws InterruptedException {
+        Histogram latency = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+        LongAdder errors = new LongAdder();
+        List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+        long start = System.nanoTime();
+        long end = start + settings.step().toNanos();
+        ExecutorService clients = OnSaleLoadTest.newClientExecutor();
+        List<Future<?>> workers = new ArrayList<>(concurrency);
+        try {
+            for (int i = 0; i < concurrency; i++) {
+                workers.add(clients.submit(() -> {
+                    while (System.nanoTime() < end) {
+                        long sent = System.nanoTime();
+                        int status = fetchDashboard();
+                        if (status == 200) {
+                            latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - sent),
+                                    MAX_LATENCY_MICROS));
+                        } else {
+                            errors.increment();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                try {
+                    worker.get(settings.step().toSeconds() + REQUEST_TIMEOUT.toSeconds() * 2, TimeUnit.SECONDS);
+                } catch (Exception e) {
+                    errors.increment();
+                }
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        long peakHeap = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        double p99 = latency.getValueAtPercentile(99) / MICROS_PER_MILLI;
+        System.out.printf("%12d %12.1f %10.1f %10.1f %10.1f %10d %14d %10d%n",
+                concurrency, latency.getTotalCount() / seconds,
+                latency.getValueAtPercentile(50) / MICROS_PER_MILLI, p99, latency.getMaxValue() / MICROS_PER_MILLI,
+                errors.sum(), peakHeap >> 20, ManagementFactory.getThreadMXBean().getPeakThreadCount());
+        ManagementFactory.getThreadMXBean().resetPeakThreadCount();
+
+        return errors.sum() == 0 && p99 <= settings.latencySlo().toMillis();
+    }
+
+    // Transport failures and timeouts count as errors, like any status other than 200.
+    private int fetchDashboard() {
+        HttpRequest.Builder request = HttpRequest.newBuilder(dashboard)
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", admin.authorization())
+                .GET();
+        String session = admin.sessionCookie();
+        if (session != null) {
+            request.header("Cookie", session);
+        }
+        try {
+            HttpResponse<Void> response = http.send(request.build(), HttpResponse.BodyHandlers.discarding());
+            if (session == null) {
+                response.headers().allValues("Set-Cookie").stream()
+                        .filter(cookie -> cookie.startsWith("JSESSIONID="))
+                        .findFirst()
+                        .map(cookie -> cookie.split(";", 2)[0])
+                        .ifPresent(admin::sessionCookie);
+            }
+            return response.statusCode();
+        } catch (IOException e) {
+            return -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package main.loadtest;
+
+import main.entities.Event;
+import main.repositories.EventRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Compares the seat inventory of the hot events with the confirmed bookings in the
+ * database and with the confirmations the clients were told about.
+ */
+final class ConsistencyCheck {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EventRepository eventRepository;
+
+    ConsistencyCheck(JdbcTemplate jdbcTemplate, EventRepository eventRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventRepository = eventRepository;
+    }
+
+    List<String> violations(List<Event> hotEvents, LoadResults results) {
+        Map<UUID, Long> confirmedInDatabase = new HashMap<>();
+        jdbcTemplate.query("""
+                SELECT event_id, SUM(seats_booked) FROM bookings
+                WHERE status = 'CONFIRMED'
+                GROUP BY event_id""",
+                rs -> {
+                    confirmedInDatabase.put(rs.getObject(1, UUID.class), rs.getLong(2));
+                });
+
+        List<String> violations = new ArrayList<>();
+        for (Event seeded : hotEvents) {
+            Event event = eventRepository.findById(seeded.getId()).orElseThrow();
+            long confirmed = confirmedInDatabase.getOrDefault(event.getId(), 0L);
+            long acknowledged = results.confirmedSeats(event.getId());
+
+            if (event.getAvailableSeats() < 0 || confirmed > event.getTotalSeats()) {
+                violations.add(String.format("%s oversold: %d of %d seats confirmed, %d available",
+                        event.getName(), confirmed, event.getTotalSeats(), event.getAvailableSeats()));
+            }
+            if (confirmed + event.getAvailableSeats() != event.getTotalSeats()) {
+                violations.add(String.format("%s inventory drift: %d confirmed + %d available != %d total",
+                        event.getName(), confirmed, event.getAvailableSeats(), event.getTotalSeats()));
+            }
+            if (acknowledged != confirmed) {
+                violations.add(String.format("%s: clients were told %d seats were confirmed, database has %d",
+                        event.getName(), acknowledged, confirmed));
+            }
+        }
+        return violations;
+    }
+}
@@ -0,0 +1,112 @@
+package main.loadtest;
+
+import main.web.dto.BookingAnalyticsDTO;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and latency histograms collected by the client threads. Create latency is
+ * measured from the scheduled arrival time, so time spent waiting for a free client
+ * counts against the server instead of being hidden (coordinated omission).
+ */
+final class LoadResults {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final Histogram createLatency = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+    private final Histogram confirmLatency = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+
+    private final LongAdder arrivals = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder created = new LongAdder();
+    private final LongAdder createRejected = new LongAdder();
+    private final LongAdder confirmed = new LongAdder();
+    private final LongAdder confirmRejected = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final Map<UUID, LongAdder> confirmedSeats = new ConcurrentHashMap<>();
+
+    void arrived() {
+        arrivals.increment();
+    }
+
+    void dropped() {
+        dropped.increment();
+    }
+
+    void error() {
+        errors.increment();
+    }
+
+    void created(boolean accepted, long latencyNanos) {
+        (accepted ? created : createRejected).increment();
+        record(createLatency, latencyNanos);
+    }
+
+    void confirmed(UUID eventId, Optional<BookingAnalyticsDTO> booking, long latencyNanos) {
+        if (booking.isPresent()) {
+            confirmed.increment();
+            confirmedSeats.computeIfAbsent(eventId, id -> new LongAdder()).add(booking.get().getSeatsBooked());
+        } else {
+            confirmRejected.increment();
+        }
+        record(confirmLatency, latencyNanos);
+    }
+
+    long confirmedSeats(UUID eventId) {
+        LongAdder seats = confirmedSeats.get(eventId);
+        return seats != null ? seats.sum() : 0;
+    }
+
+    void print(PrintStream out, Duration elapsed) {
+        double seconds = elapsed.toNanos() / 1e9;
+        long requests = createLatency.getTotalCount() + confirmLatency.getTotalCount();
+
+        out.printf("%nOn-sale run: %.1f s, %d arrivals (%d dropped at the in-flight limit), %d transport errors%n",
+                seconds, arrivals.sum(), dropped.sum(), errors.sum());
+        out.printf("Throughput: %.1f requests/s, %.1f confirmed bookings/s%n",
+                requests / seconds, confirmed.sum() / seconds);
+        out.printf("Create:  %d accepted, %d rejected%n", created.sum(), createRejected.sum());
+        out.printf("Confirm: %d accepted, %d rejected%n", confirmed.sum(), confirmRejected.sum());
+        out.println("Latency (ms)        p50       p90       p99     p99.9       max");
+        printLatency(out, "create", createLatency);
+        printLatency(out, "confirm", confirmLatency);
+    }
+
+    void writeHistograms(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        writeHistogram(directory.resolve("create.hgrm"), createLatency);
+        writeHistogram(directory.resolve("confirm.hgrm"), confirmLatency);
+    }
+
+    private static void record(Histogram histogram, long latencyNanos) {
+        histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), MAX_LATENCY_MICROS));
+    }
+
+    private static void printLatency(PrintStream out, String name, Histogram histogram) {
+        out.printf("%-12s %9.2f %9.2f %9.2f %9.2f %9.2f%n", name,
+                histogram.getValueAtPercentile(50) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(90) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(99) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(99.9) / MICROS_PER_MILLI,
+                histogram.getMaxValue() / MICROS_PER_MILLI);
+    }
+
+    private static void writeHistogram(Path file, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            histogram.outputPercentileDistribution(out, MICROS_PER_MILLI);
+        }
+    }
+}
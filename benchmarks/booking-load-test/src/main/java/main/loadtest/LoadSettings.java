@@ -0,0 +1,42 @@
+package main.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Run settings, read from {@code -Dloadtest.*} system properties. The arrival rate ramps
+ * up linearly over {@code ramp} and then holds for the rest of {@code duration}.
+ */
+record LoadSettings(int hotEvents,
+                    int seatsPerEvent,
+                    int shoppers,
+                    double arrivalsPerSecond,
+                    Duration ramp,
+                    Duration duration,
+                    double confirmRatio,
+                    int maxInFlight,
+                    Path reportDirectory) {
+
+    private static final double MIN_RAMP_FRACTION = 0.05;
+
+    static LoadSettings fromSystemProperties() {
+        return new LoadSettings(
+                Integer.getInteger("loadtest.events", 5),
+                Integer.getInteger("loadtest.seats", 2000),
+                Integer.getInteger("loadtest.shoppers", 500),
+                Double.parseDouble(System.getProperty("loadtest.rate", "200")),
+                Duration.parse(System.getProperty("loadtest.ramp", "PT10S")),
+                Duration.parse(System.getProperty("loadtest.duration", "PT60S")),
+                Double.parseDouble(System.getProperty("loadtest.confirm-ratio", "0.9")),
+                Integer.getInteger("loadtest.max-in-flight", 5000),
+                Path.of(System.getProperty("loadtest.report-dir", "target/loadtest")));
+    }
+
+    double arrivalsPerSecondAt(long elapsedNanos) {
+        long rampNanos = ramp.toNanos();
+        if (elapsedNanos >= rampNanos) {
+            return arrivalsPerSecond;
+        }
+        return arrivalsPerSecond * Math.max(MIN_RAMP_FRACTION, (double) elapsedNanos / rampNanos);
+    }
+}
@@ -0,0 +1,34 @@
+package main.loadtest;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.Customizer;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+
+/**
+ * Lets the load generator call the REST API with HTTP Basic instead of scripting the
+ * login form and CSRF tokens. The authentication is kept in the session, so only each
+ * shopper's first call pays for the password hash, like a browser after logging in.
+ * The admin dashboard is included for {@link ConcurrencyCeilingTest}.
+ */
+@Configuration
+@Profile("loadtest")
+public class LoadTestSecurityConfiguration {
+
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public SecurityFilterChain loadTestApiFilterChain(HttpSecurity http) throws Exception {
+        http.securityMatcher("/api/**", "/admin/analytics/dashboard")
+                .authorizeHttpRequests(matcher -> matcher.anyRequest().authenticated())
+                .httpBasic(Customizer.withDefaults())
+                .csrf(AbstractHttpConfigurer::disable)
+                .securityContext(context -> context.securityContextRepository(new HttpSessionSecurityContextRepository()));
+        return http.build();
+    }
+}
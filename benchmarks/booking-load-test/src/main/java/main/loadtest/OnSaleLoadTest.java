@@ -0,0 +1,233 @@
+package main.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import main.EventBookingPlatformApplication;
+import main.entities.Event;
+import main.entities.Role;
+import main.entities.User;
+import main.repositories.EventRepository;
+import main.repositories.UserRepository;
+import main.web.dto.BookingAnalyticsDTO;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays an on-sale spike against an embedded main-app backed by in-memory H2.
+ * Arrivals follow an open model: they are scheduled as a Poisson process at the
+ * configured rate whether or not earlier requests have finished, and each one creates a
+ * booking for one of a few hot events and usually confirms it. At the end the run prints
+ * throughput and latency percentiles, writes the full HdrHistogram distributions and
+ * checks the hot events for oversold or drifting seat counts. The exit code is non-zero
+ * when a consistency check fails.
+ */
+public final class OnSaleLoadTest {
+
+    private static final String PASSWORD = "loadtest-password";
+    private static final int MAX_SEATS_PER_BOOKING = 4;
+    private static final Duration DRAIN_TIMEOUT = Duration.ofMinutes(2);
+
+    private final LoadSettings settings;
+    private final ConfigurableApplicationContext context;
+    private final LoadResults results = new LoadResults();
+
+    private List<Shopper> shoppers;
+    private List<Event> hotEvents;
+    private BookingApiClient client;
+
+    private OnSaleLoadTest(LoadSettings settings, ConfigurableApplicationContext context) {
+        this.settings = settings;
+        this.context = context;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadSettings settings = LoadSettings.fromSystemProperties();
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(EventBookingPlatformApplication.class)
+                .profiles("loadtest")
+                .run(args);
+
+        int exitCode;
+        try {
+            exitCode = new OnSaleLoadTest(settings, context).run();
+        } finally {
+            context.close();
+        }
+        System.exit(exitCode);
+    }
+
+    private int run() throws Exception {
+        seed();
+        client = new BookingApiClient(
+                URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port")),
+                context.getBean(ObjectMapper.class));
+
+        ExecutorService clients = newClientExecutor();
+        try {
+            logIn(clients);
+            Duration elapsed = drive(clients);
+            results.print(System.out, elapsed);
+        } finally {
+            clients.shutdownNow();
+        }
+        results.writeHistograms(settings.reportDirectory());
+        System.out.println("Latency distributions written to " + settings.reportDirectory().toAbsolutePath());
+
+        List<String> violations = new ConsistencyCheck(context.getBean(JdbcTemplate.class),
+                context.getBean(EventRepository.class)).violations(hotEvents, results);
+        if (violations.isEmpty()) {
+            System.out.println("Consistency: no oversold events, seat counts match the confirmed bookings");
+            return 0;
+        }
+        System.out.println("Consistency violations:");
+        violations.forEach(violation -> System.out.println("  " + violation));
+        return 1;
+    }
+
+    private void seed() {
+        // One hash for everyone; encoding thousands of BCrypt passwords would dominate startup.
+        String password = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+        List<User> users = new ArrayList<>(settings.shoppers());
+        for (int i = 0; i < settings.shoppers(); i++) {
+            users.add(User.builder()
+                    .username("shopper-" + i)
+                    .email("shopper-" + i + "@loadtest.local")
+                    .password(password)
+                    .name("Shopper " + i)
+                    .role(Role.USER)
+                    .active(true)
+                    .build());
+        }
+        shoppers = context.getBean(UserRepository.class).saveAll(users).stream()
+                .map(user -> new Shopper(user.getId(), user.getUsername(), PASSWORD))
+                .toList();
+
+        LocalDateTime start = LocalDateTime.now().plusDays(30);
+        List<Event> events = new ArrayList<>(settings.hotEvents());
+        for (int i = 0; i < settings.hotEvents(); i++) {
+            events.add(Event.builder()
+                    .name("Headliner " + i)
+                    .description("On-sale load test event " + i)
+                    .venue("Arena")
+                    .location("Sofia")
+                    .price(80.0 + 10 * i)
+                    .totalSeats(settings.seatsPerEvent())
+                    .availableSeats(settings.seatsPerEvent())
+                    .startDate(start.plusDays(i))
+                    .endDate(start.plusDays(i).plusHours(3))
+                    .build());
+        }
+        hotEvents = context.getBean(EventRepository.class).saveAll(events);
+    }
+
+    private void logIn(ExecutorService clients) throws InterruptedException {
+        List<Callable<Boolean>> logins = shoppers.stream()
+                .<Callable<Boolean>>map(shopper -> () -> client.logIn(shopper))
+                .toList();
+
+        int withoutSession = 0;
+        for (Future<Boolean> login : clients.invokeAll(logins)) {
+            try {
+                if (!login.get()) {
+                    withoutSession++;
+                }
+            } catch (Exception e) {
+                throw new IllegalStateException("Shopper login failed", e);
+            }
+        }
+        if (withoutSession > 0) {
+            System.out.println("Warning: " + withoutSession + " shoppers got no session and will authenticate on every call");
+        }
+    }
+
+    private Duration drive(ExecutorService clients) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(settings.maxInFlight());
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        long start = System.nanoTime();
+        long end = start + settings.duration().toNanos();
+        long next = start;
+        while (true) {
+            double rate = settings.arrivalsPerSecondAt(next - start);
+            next += (long) (-Math.log(1 - random.nextDouble()) / rate * TimeUnit.SECONDS.toNanos(1));
+            if (next >= end) {
+                break;
+            }
+            for (long wait = next - System.nanoTime(); wait > 0; wait = next - System.nanoTime()) {
+                LockSupport.parkNanos(wait);
+            }
+
+            results.arrived();
+            if (!inFlight.tryAcquire()) {
+                results.dropped();
+                continue;
+            }
+            long scheduledAt = next;
+            clients.execute(() -> {
+                try {
+                    shop(scheduledAt);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        }
+
+        if (!inFlight.tryAcquire(settings.maxInFlight(), DRAIN_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+            System.out.println("Warning: requests were still in flight after " + DRAIN_TIMEOUT);
+        }
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    private void shop(long scheduledAt) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Shopper shopper = shoppers.get(random.nextInt(shoppers.size()));
+        Event event = hotEvents.get(random.nextInt(hotEvents.size()));
+        int seats = 1 + random.nextInt(MAX_SEATS_PER_BOOKING);
+
+        try {
+            Optional<BookingAnalyticsDTO> booking = client.create(shopper, event.getId(), seats);
+            results.created(booking.isPresent(), System.nanoTime() - scheduledAt);
+            if (booking.isEmpty() || random.nextDouble() >= settings.confirmRatio()) {
+                return;
+            }
+
+            long confirmStart = System.nanoTime();
+            Optional<BookingAnalyticsDTO> confirmed = client.confirm(shopper, booking.get().getId());
+            results.confirmed(event.getId(), confirmed, System.nanoTime() - confirmStart);
+        } catch (IOException e) {
+            results.error();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // One virtual thread per request when the JVM has them (21+), otherwise an unbounded
+    // platform pool; either way the in-flight limit in drive() is the only cap.
+    static ExecutorService newClientExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(task -> {
+                Thread thread = new Thread(task, "loadtest-client");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package main.loadtest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * A seeded user. The session cookie is remembered after the first authenticated call so
+ * that later requests skip the password check, as a logged-in browser would.
+ */
+final class Shopper {
+
+    private final UUID id;
+    private final String authorization;
+    private volatile String sessionCookie;
+
+    Shopper(UUID id, String username, String password) {
+        this.id = id;
+        this.authorization = "Basic " + Base64.getEncoder()
+                .encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8));
+    }
+
+    UUID id() {
+        return id;
+    }
+
+    String authorization() {
+        return authorization;
+    }
+
+    String sessionCookie() {
+        return sessionCookie;
+    }
+
+    void sessionCookie(String sessionCookie) {
+        this.sessionCookie = sessionCookie;
+    }
+}
@@ -0,0 +1,65 @@
+package main.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Stands in for the analytics microservice on the port AnalyticsClient calls. The
+ * dashboard answers after a fixed delay, so each admin dashboard request keeps a
+ * main-app request thread blocked in Feign for that long, as a slow downstream would.
+ */
+final class StubAnalyticsServer implements AutoCloseable {
+
+    static final int PORT = 8081;
+
+    private static final byte[] DASHBOARD = """
+            {"totalUsers":1,"totalEvents":1,"totalBookings":1,"totalRevenue":80.0,"topEvents":[],"seatWarnings":[]}"""
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    StubAnalyticsServer(Duration latency, ExecutorService executor) throws IOException {
+        this.executor = executor;
+        this.server = HttpServer.create(new InetSocketAddress("localhost", PORT), 4096);
+        server.setExecutor(executor);
+        server.createContext("/api/dashboard", exchange -> {
+            try {
+                Thread.sleep(latency.toMillis());
+                respond(exchange, DASHBOARD);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                exchange.close();
+            }
+        });
+        // Outbox relays and other writes are accepted and ignored.
+        server.createContext("/api", exchange -> respond(exchange, new byte[0]));
+    }
+
+    void start() {
+        server.start();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private static void respond(HttpExchange exchange, byte[] body) throws IOException {
+        try (InputStream request = exchange.getRequestBody(); OutputStream response = exchange.getResponseBody()) {
+            request.readAllBytes();
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length == 0 ? -1 : body.length);
+            response.write(body);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package main.benchmarks;
+
+import main.entities.Event;
+import main.services.BookingReminderService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingReminderServiceBenchmark {
+
+    private BookingReminderService bookingReminderService;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup(PlatformState platform) {
+        bookingReminderService = platform.bean(BookingReminderService.class);
+    }
+
+    @Benchmark
+    public String getGoogleCalendarLink(PlatformState platform) {
+        Event event = platform.event(next++);
+        return bookingReminderService.getGoogleCalendarLink(event.getName(), event.getDescription(),
+                event.getStartDate(), event.getEndDate());
+    }
+}
@@ -0,0 +1,70 @@
+package main.benchmarks;
+
+import main.entities.Booking;
+import main.entities.Event;
+import main.services.BookingService;
+import main.services.EventService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BookingServiceBenchmark {
+
+    private BookingService bookingService;
+    private List<Event> events;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup(PlatformState platform) {
+        bookingService = platform.bean(BookingService.class);
+
+        // The booking form works with events loaded through the service, not the seeded instances.
+        EventService eventService = platform.bean(EventService.class);
+        events = new ArrayList<>(platform.eventCount);
+        for (int i = 0; i < platform.eventCount; i++) {
+            events.add(eventService.findById(platform.event(i).getId()));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class PendingBooking {
+
+        UUID id;
+        int next;
+
+        @Setup(Level.Invocation)
+        public void create(PlatformState platform) {
+            id = platform.pendingBooking(next++);
+        }
+    }
+
+    @Benchmark
+    public Booking createBooking(PlatformState platform) {
+        int index = next++;
+        return bookingService.createBooking(platform.user(index), events.get(index % events.size()), 2);
+    }
+
+    @Benchmark
+    public Booking confirmBooking(PendingBooking pending) {
+        return bookingService.confirmBooking(pending.id);
+    }
+}
@@ -0,0 +1,136 @@
+package main.benchmarks;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import main.logging.InfoLogSamplingFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.logging.logback.StructuredLogEncoder;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.OutputStream;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost on the request thread of the INFO lines BookingService writes for one create and
+ * confirm round trip, under the previous setup (synchronous text console) and under
+ * logback-spring.xml (async JSON, with and without sampling). Output is discarded so
+ * the numbers show formatting and hand-off cost rather than the speed of the terminal.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class LoggingBenchmark {
+
+    private static final String LOGGER = "main.services.BookingService";
+    private static final String TEXT_PATTERN =
+            "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p --- [%t] %-40.40logger{39} : %m%n";
+    private static final String USERNAME = "shopper-42";
+    private static final String EVENT_NAME = "Headliner Live at the Arena";
+
+    @Param({"sync-text", "async-json", "async-json-sampled"})
+    public String setup;
+
+    private LoggerContext loggerContext;
+    private Logger log;
+    private final UUID bookingId = UUID.randomUUID();
+
+    @Setup
+    public void configure() {
+        loggerContext = new LoggerContext();
+        loggerContext.putObject(Environment.class.getName(), new StandardEnvironment());
+
+        Appender<ILoggingEvent> appender = switch (setup) {
+            case "sync-text" -> discarding(textEncoder());
+            case "async-json", "async-json-sampled" -> async(discarding(jsonEncoder()));
+            default -> throw new IllegalArgumentException("Unknown logging setup " + setup);
+        };
+        if (setup.equals("async-json-sampled")) {
+            InfoLogSamplingFilter sampling = new InfoLogSamplingFilter();
+            sampling.addLogger(LOGGER);
+            sampling.setRate(10);
+            sampling.setContext(loggerContext);
+            sampling.start();
+            loggerContext.addTurboFilter(sampling);
+        }
+
+        Logger root = loggerContext.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(appender);
+        log = loggerContext.getLogger(LOGGER);
+    }
+
+    @TearDown
+    public void stop() {
+        loggerContext.stop();
+    }
+
+    @Benchmark
+    public void bookingRequest() {
+        log.info("User {} is attempting to create a booking for event {} with {} seats", USERNAME, EVENT_NAME, 2);
+        log.info("Booking created successfully with id {}", bookingId);
+        log.info("Attempting to confirm booking with id {}", bookingId);
+        log.info("Booking {} confirmed successfully for user {}", bookingId, USERNAME);
+    }
+
+    private Encoder<ILoggingEvent> textEncoder() {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setPattern(TEXT_PATTERN);
+        encoder.setContext(loggerContext);
+        encoder.start();
+        return encoder;
+    }
+
+    private Encoder<ILoggingEvent> jsonEncoder() {
+        StructuredLogEncoder encoder = new StructuredLogEncoder();
+        encoder.setFormat("ecs");
+        encoder.setContext(loggerContext);
+        encoder.start();
+        return encoder;
+    }
+
+    private Appender<ILoggingEvent> discarding(Encoder<ILoggingEvent> encoder) {
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setName("CONSOLE");
+        appender.setContext(loggerContext);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+        return appender;
+    }
+
+    private Appender<ILoggingEvent> async(Appender<ILoggingEvent> target) {
+        AsyncAppender appender = new AsyncAppender();
+        appender.setName("ASYNC_CONSOLE");
+        appender.setContext(loggerContext);
+        appender.setQueueSize(8192);
+        appender.setNeverBlock(true);
+        appender.addAppender(target);
+        appender.start();
+        return appender;
+    }
+}
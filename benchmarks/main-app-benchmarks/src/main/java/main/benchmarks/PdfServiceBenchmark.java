@@ -0,0 +1,60 @@
+package main.benchmarks;
+
+import main.entities.Booking;
+import main.entities.BookingStatus;
+import main.entities.Event;
+import main.services.PdfService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PdfServiceBenchmark {
+
+    private static final int BOOKINGS = 64;
+
+    private PdfService pdfService;
+    private List<Booking> bookings;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup(PlatformState platform) {
+        pdfService = platform.bean(PdfService.class);
+
+        bookings = new ArrayList<>(BOOKINGS);
+        for (int i = 0; i < BOOKINGS; i++) {
+            Event event = platform.event(i);
+            bookings.add(Booking.builder()
+                    .user(platform.user(i))
+                    .event(event)
+                    .seatsBooked(1 + i % 4)
+                    .totalPrice(event.getPrice() * (1 + i % 4))
+                    .bookedOn(LocalDateTime.now())
+                    .status(BookingStatus.CONFIRMED)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public byte[] generateBookingPdf() {
+        return pdfService.generateBookingPdf(bookings.get(next++ % BOOKINGS));
+    }
+}
@@ -0,0 +1,134 @@
+package main.benchmarks;
+
+import main.EventBookingPlatformApplication;
+import main.entities.Booking;
+import main.entities.BookingStatus;
+import main.entities.Event;
+import main.entities.Role;
+import main.entities.User;
+import main.repositories.BookingRepository;
+import main.repositories.EventRepository;
+import main.repositories.UserRepository;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Boots the main application against an in-memory H2 database once per trial and
+ * seeds it with users, upcoming events and a booking history for them.
+ */
+@State(Scope.Benchmark)
+public class PlatformState {
+
+    // Large enough that confirming bookings never sells an event out during a run.
+    static final int SEATS_PER_EVENT = 1_000_000_000;
+
+    @Param("50")
+    public int userCount;
+
+    @Param("500")
+    public int eventCount;
+
+    @Param("5")
+    public int bookingsPerUser;
+
+    private ConfigurableApplicationContext context;
+    private List<User> users;
+    private List<Event> events;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(EventBookingPlatformApplication.class)
+                .profiles("benchmark")
+                .run();
+        seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public User user(int index) {
+        return users.get(index % users.size());
+    }
+
+    public Event event(int index) {
+        return events.get(index % events.size());
+    }
+
+    public UUID pendingBooking(int index) {
+        Booking booking = bean(BookingRepository.class).save(Booking.builder()
+                .user(user(index))
+                .event(event(index))
+                .seatsBooked(1)
+                .bookedOn(LocalDateTime.now())
+                .status(BookingStatus.PENDING)
+                .build());
+        return booking.getId();
+    }
+
+    private void seed() {
+        LocalDateTime now = LocalDateTime.now();
+
+        List<User> newUsers = new ArrayList<>(userCount);
+        for (int i = 0; i < userCount; i++) {
+            newUsers.add(User.builder()
+                    .username("bench-user-" + i)
+                    .email("bench-user-" + i + "@test.com")
+                    .password("password123")
+                    .name("Benchmark User " + i)
+                    .age(20 + i % 50)
+                    .role(i == 0 ? Role.ADMIN : Role.USER)
+                    .active(true)
+                    .build());
+        }
+        users = bean(UserRepository.class).saveAll(newUsers);
+
+        List<Event> newEvents = new ArrayList<>(eventCount);
+        for (int i = 0; i < eventCount; i++) {
+            LocalDateTime start = now.plusDays(1 + i % 90).plusHours(i % 12);
+            newEvents.add(Event.builder()
+                    .name("Benchmark Event " + i)
+                    .description("Seeded event number " + i + " for the JMH benchmarks & their links")
+                    .venue("Hall " + i % 20)
+                    .location("Sofia")
+                    .price(10.0 + i % 40)
+                    .totalSeats(SEATS_PER_EVENT)
+                    .availableSeats(SEATS_PER_EVENT)
+                    .startDate(start)
+                    .endDate(start.plusHours(3))
+                    .creator(users.get(i % users.size()))
+                    .build());
+        }
+        events = bean(EventRepository.class).saveAll(newEvents);
+
+        List<Booking> history = new ArrayList<>(userCount * bookingsPerUser);
+        for (int i = 0; i < userCount * bookingsPerUser; i++) {
+            Event event = event(i);
+            history.add(Booking.builder()
+                    .user(user(i))
+                    .event(event)
+                    .seatsBooked(1 + i % 4)
+                    .totalPrice(event.getPrice() * (1 + i % 4))
+                    .bookedOn(now.minusHours(i))
+                    .status(BookingStatus.CONFIRMED)
+                    .build());
+        }
+        bean(BookingRepository.class).saveAll(history);
+    }
+}
@@ -0,0 +1,56 @@
+package main.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps one in every {@code rate} INFO lines from the configured loggers (and their
+ * children) and drops the rest before the message is formatted. WARN and above always
+ * pass. Lines are counted per logger and message format, so a log statement that is
+ * interleaved with a busier one in the same logger is still sampled at the same rate
+ * instead of being kept or dropped every time. Configured from logback-spring.xml.
+ */
+public class InfoLogSamplingFilter extends TurboFilter {
+
+    private final List<String> loggers = new ArrayList<>();
+    private final Map<String, Map<String, AtomicLong>> counters = new ConcurrentHashMap<>();
+    private int rate = 1;
+
+    public void addLogger(String logger) {
+        loggers.add(logger);
+    }
+
+    public void setRate(int rate) {
+        this.rate = rate;
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // A null format is an isInfoEnabled() check, not a log call.
+        if (rate <= 1 || level != Level.INFO || format == null || !sampled(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        long seen = counters.computeIfAbsent(logger.getName(), name -> new ConcurrentHashMap<>())
+                .computeIfAbsent(format, key -> new AtomicLong())
+                .getAndIncrement();
+        return seen % rate == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private boolean sampled(String name) {
+        for (String logger : loggers) {
+            if (name.equals(logger) || name.startsWith(logger + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
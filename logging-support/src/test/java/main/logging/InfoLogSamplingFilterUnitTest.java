@@ -0,0 +1,57 @@
+package main.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InfoLogSamplingFilterUnitTest {
+
+    private final LoggerContext loggerContext = new LoggerContext();
+    private InfoLogSamplingFilter filter;
+
+    @BeforeEach
+    void setup() {
+        filter = new InfoLogSamplingFilter();
+        filter.addLogger("main.services");
+        filter.setRate(2);
+    }
+
+    @Test
+    void testDecide_InterleavedMessages_AreSampledSeparately() {
+        Logger logger = loggerContext.getLogger("main.services.BookingService");
+
+        int created = 0;
+        int confirmed = 0;
+        for (int i = 0; i < 10; i++) {
+            if (decide(logger, Level.INFO, "Booking {} created") == FilterReply.NEUTRAL) {
+                created++;
+            }
+            if (decide(logger, Level.INFO, "Booking {} confirmed") == FilterReply.NEUTRAL) {
+                confirmed++;
+            }
+        }
+
+        assertEquals(5, created);
+        assertEquals(5, confirmed);
+    }
+
+    @Test
+    void testDecide_WarningsAndOtherLoggers_AlwaysPass() {
+        Logger sampled = loggerContext.getLogger("main.services.BookingService");
+        Logger other = loggerContext.getLogger("main.web.BookingController");
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals(FilterReply.NEUTRAL, decide(sampled, Level.WARN, "Booking {} failed"));
+            assertEquals(FilterReply.NEUTRAL, decide(other, Level.INFO, "Booking {} created"));
+        }
+    }
+
+    private FilterReply decide(Logger logger, Level level, String format) {
+        return filter.decide(null, logger, level, format, new Object[]{1}, null);
+    }
+}
@@ -0,0 +1,61 @@
+package main.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Slf4j
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    private final Environment environment;
+
+    public AsyncConfig(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor bookingFulfillmentExecutor(
+            @Value("${booking.fulfillment.pool-size:4}") int poolSize,
+            @Value("${booking.fulfillment.queue-capacity:500}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("booking-fulfillment-");
+        useVirtualThreadsIfEnabled(executor);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        // Rejected bookings stay PENDING and are picked up by the reconciliation sweep.
+        executor.setRejectedExecutionHandler((task, pool) ->
+                log.warn("Booking fulfillment queue is full, deferring to the reconciliation sweep"));
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor cacheRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(4);
+        executor.setThreadNamePrefix("cache-refresh-");
+        useVirtualThreadsIfEnabled(executor);
+        return executor;
+    }
+
+    // The pools keep their size and queue as concurrency limits on the downstream calls;
+    // with spring.threads.virtual.enabled on Java 21+ the workers are virtual threads,
+    // so a task blocked on I/O does not hold a platform thread.
+    private void useVirtualThreadsIfEnabled(ThreadPoolTaskExecutor executor) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            executor.setThreadFactory(new VirtualThreadTaskExecutor(executor.getThreadNamePrefix()).getVirtualThreadFactory());
+        }
+    }
+}
@@ -1,16 +1,70 @@
 package main.config;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
 
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(CacheSpecProperties.class)
 public class CacheConfig {
+
+    public static final String UPCOMING_EVENTS = "upcomingEvents";
+    public static final String EVENTS_BY_ID = "eventsById";
+    public static final String USERS_BY_ID = "usersById";
+    public static final String EVENT_PERMISSIONS = "eventPermissions";
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.cache.redis", name = "enabled", havingValue = "false", matchIfMissing = true)
+    public CacheManager cacheManager(CacheSpecProperties properties) {
+        CaffeineCacheManager manager = new CaffeineCacheManager();
+        manager.setCacheSpecification(properties.getDefaultSpec());
+        properties.getSpecs().forEach((name, spec) -> manager.registerCustomCache(name, Caffeine.from(spec).build()));
+        return manager;
+    }
+
+    @Bean(name = "cacheManager")
+    @ConditionalOnProperty(prefix = "app.cache.redis", name = "enabled", havingValue = "true")
+    public TwoLevelCacheManager twoLevelCacheManager(CacheSpecProperties properties,
+                                                     RedisConnectionFactory connectionFactory,
+                                                     StringRedisTemplate redisTemplate) {
+        RedisCacheManager remote = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(RedisCacheConfiguration.defaultCacheConfig()
+                        .entryTtl(properties.getRedis().getTimeToLive())
+                        .prefixCacheNameWith(properties.getRedis().getKeyPrefix()))
+                .build();
+        remote.initializeCaches();
+        return new TwoLevelCacheManager(properties, remote, redisTemplate);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.cache.redis", name = "enabled", havingValue = "true")
+    public RedisMessageListenerContainer cacheInvalidationListener(RedisConnectionFactory connectionFactory,
+                                                                   TwoLevelCacheManager cacheManager,
+                                                                   CacheSpecProperties properties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> cacheManager.onInvalidation(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(properties.getRedis().getInvalidationChannel()));
+        return container;
+    }
+
     @Bean
-    public CacheManager cacheManager() {
-        return new ConcurrentMapCacheManager("upcomingEvents");
+    public TwoLevelCacheMeterBinderProvider twoLevelCacheMeterBinderProvider() {
+        return new TwoLevelCacheMeterBinderProvider();
     }
 }
@@ -0,0 +1,33 @@
+package main.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "app.cache")
+public class CacheSpecProperties {
+
+    /**
+     * Caffeine spec used for caches that have no entry in {@link #specs}.
+     */
+    private String defaultSpec = "maximumSize=1000,expireAfterWrite=10m,recordStats";
+
+    /**
+     * Caffeine spec per cache name, e.g. {@code maximumSize=500,expireAfterWrite=5m,recordStats}.
+     */
+    private Map<String, String> specs = new LinkedHashMap<>();
+
+    private Redis redis = new Redis();
+
+    @Data
+    public static class Redis {
+        private boolean enabled = false;
+        private Duration timeToLive = Duration.ofMinutes(30);
+        private String keyPrefix = "event-booking::";
+        private String invalidationChannel = "event-booking:cache-invalidation";
+    }
+}
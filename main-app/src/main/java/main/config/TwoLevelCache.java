@@ -0,0 +1,106 @@
+package main.config;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+
+/**
+ * A local Caffeine cache in front of a shared Redis cache. Reads fall through to
+ * Redis and repopulate the local copy; evictions hit both levels and are broadcast
+ * so other instances drop their local copy of the evicted entry as well. The key is
+ * passed to the publisher, or {@code null} when the whole cache was cleared.
+ */
+public class TwoLevelCache implements Cache {
+
+    private final CaffeineCache local;
+    private final Cache remote;
+    private final BiConsumer<String, Object> invalidationPublisher;
+
+    public TwoLevelCache(CaffeineCache local, Cache remote, BiConsumer<String, Object> invalidationPublisher) {
+        this.local = local;
+        this.remote = remote;
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    @Override
+    public String getName() {
+        return local.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local.getNativeCache();
+    }
+
+    public CaffeineCache getLocalCache() {
+        return local;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = local.get(key);
+        if (value == null) {
+            value = remote.get(key);
+            if (value != null) {
+                local.put(key, value.get());
+            }
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return local.get(key, () -> {
+            ValueWrapper shared = remote.get(key);
+            if (shared != null) {
+                return (T) shared.get();
+            }
+            T value = valueLoader.call();
+            remote.put(key, value);
+            return value;
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        local.put(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        local.evict(key);
+        invalidationPublisher.accept(getName(), key);
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.clear();
+        invalidationPublisher.accept(getName(), null);
+    }
+
+    void evictLocal(Object key) {
+        local.evict(key);
+    }
+
+    void clearLocal() {
+        local.clear();
+    }
+}
@@ -0,0 +1,101 @@
+package main.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.AbstractCacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Builds a {@link TwoLevelCache} per configured cache and keeps the local levels of all
+ * instances in step over a Redis channel. A message is {@code "<instance> <cache>"} to
+ * clear a cache, or {@code "<instance> <cache> <type>:<key>"} to evict one entry. Only
+ * UUID and String keys are sent individually; any other key clears the whole cache.
+ */
+@Slf4j
+public class TwoLevelCacheManager extends AbstractCacheManager {
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final CacheSpecProperties properties;
+    private final RedisCacheManager remote;
+    private final StringRedisTemplate redisTemplate;
+
+    public TwoLevelCacheManager(CacheSpecProperties properties, RedisCacheManager remote,
+                                StringRedisTemplate redisTemplate) {
+        this.properties = properties;
+        this.remote = remote;
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return properties.getSpecs().keySet().stream()
+                .map(this::createCache)
+                .toList();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        return createCache(name);
+    }
+
+    public void onInvalidation(String message) {
+        String[] parts = message.split(" ", 3);
+        if (parts.length < 2 || parts[0].equals(instanceId)
+                || !(lookupCache(parts[1]) instanceof TwoLevelCache cache)) {
+            return;
+        }
+        Object key = parts.length == 3 ? decodeKey(parts[2]) : null;
+        if (key != null) {
+            cache.evictLocal(key);
+        } else {
+            cache.clearLocal();
+        }
+    }
+
+    private TwoLevelCache createCache(String name) {
+        String spec = properties.getSpecs().getOrDefault(name, properties.getDefaultSpec());
+        CaffeineCache local = new CaffeineCache(name, Caffeine.from(spec).build());
+        return new TwoLevelCache(local, remote.getCache(name), this::publishInvalidation);
+    }
+
+    private void publishInvalidation(String cacheName, Object key) {
+        String encodedKey = encodeKey(key);
+        String message = instanceId + " " + cacheName + (encodedKey != null ? " " + encodedKey : "");
+        try {
+            redisTemplate.convertAndSend(properties.getRedis().getInvalidationChannel(), message);
+        } catch (RuntimeException e) {
+            log.warn("Could not broadcast invalidation of cache {}", cacheName, e);
+        }
+    }
+
+    private static String encodeKey(Object key) {
+        if (key instanceof UUID uuid) {
+            return "uuid:" + uuid;
+        }
+        if (key instanceof String string) {
+            return "string:" + string;
+        }
+        return null;
+    }
+
+    // Returns null for anything it cannot decode, so the receiver clears the whole cache.
+    private static Object decodeKey(String encoded) {
+        if (encoded.startsWith("uuid:")) {
+            try {
+                return UUID.fromString(encoded.substring("uuid:".length()));
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+        if (encoded.startsWith("string:")) {
+            return encoded.substring("string:".length());
+        }
+        return null;
+    }
+}
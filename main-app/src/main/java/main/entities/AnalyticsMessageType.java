@@ -0,0 +1,7 @@
+package main.entities;
+
+public enum AnalyticsMessageType {
+    USER,
+    EVENT,
+    BOOKING
+}
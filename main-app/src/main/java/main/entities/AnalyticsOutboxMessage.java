@@ -0,0 +1,44 @@
+package main.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "analytics_outbox", indexes = {
+        @Index(name = "idx_analytics_outbox_attempts", columnList = "attempts, id"),
+        @Index(name = "idx_analytics_outbox_next_attempt", columnList = "next_attempt_at, attempts")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AnalyticsOutboxMessage implements Serializable {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private AnalyticsMessageType type;
+
+    @Column(nullable = false)
+    private UUID aggregateId;
+
+    @Column(nullable = false, length = 2000)
+    private String payload;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdOn;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+}
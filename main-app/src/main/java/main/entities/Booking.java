@@ -11,7 +11,10 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "bookings")
+@Table(name = "bookings", indexes = {
+        @Index(name = "idx_bookings_user_booked_on", columnList = "user_id, booked_on"),
+        @Index(name = "idx_bookings_fulfillment", columnList = "fulfillment_status, fulfillment_updated_on")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -23,11 +26,11 @@ public class Booking implements Serializable {
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "event_id", nullable = false)
     private Event event;
 
@@ -46,6 +49,8 @@ public class Booking implements Serializable {
     @Column(nullable = false)
     private double totalPrice;
 
-    @Lob
-    private String qrCodeBase64;
+    @Enumerated(EnumType.STRING)
+    private FulfillmentStatus fulfillmentStatus;
+
+    private LocalDateTime fulfillmentUpdatedOn;
 }
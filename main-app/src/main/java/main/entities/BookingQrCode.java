@@ -0,0 +1,32 @@
+package main.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "booking_qr_codes")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookingQrCode implements Serializable {
+
+    @Id
+    private UUID bookingId;
+
+    @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @Column(nullable = false)
+    private byte[] image;
+
+    @Column(nullable = false, length = 64)
+    private String etag;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdOn;
+}
@@ -9,7 +9,10 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "events")
+@Table(name = "events", indexes = {
+        @Index(name = "idx_events_archived_start_date", columnList = "archived, start_date"),
+        @Index(name = "idx_events_archived_end_date", columnList = "archived, end_date")
+})
 @Data
 @Getter
 @Setter
@@ -46,8 +49,12 @@ public class Event implements Serializable {
     @Column(nullable = false)
     private int totalSeats;
 
+    // Only changed through the guarded updates in EventRepository, never by entity flushes.
+    @Column(updatable = false)
     private int availableSeats;
 
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @OneToMany(mappedBy = "event", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Booking> bookings;
 
@@ -0,0 +1,18 @@
+package main.entities;
+
+import lombok.Getter;
+
+@Getter
+public enum FulfillmentStatus {
+    PENDING("Preparing your ticket"),
+    PROCESSING("Preparing your ticket"),
+    COMPLETED("Ticket ready"),
+    FAILED("Ticket could not be prepared");
+
+    private final String displayName;
+
+    FulfillmentStatus(String displayName) {
+        this.displayName = displayName;
+    }
+
+}
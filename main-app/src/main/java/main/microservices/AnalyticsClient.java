@@ -4,6 +4,7 @@ import main.web.dto.*;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Map;
 
 
@@ -22,4 +23,13 @@ public interface AnalyticsClient {
     @PostMapping("/users")
     void addUser(@RequestBody UserAnalyticsDTO user);
 
+    @PostMapping("/events/batch")
+    IngestionResponse addEvents(@RequestBody List<EventAnalyticsDTO> events);
+
+    @PostMapping("/bookings/batch")
+    IngestionResponse confirmBookings(@RequestBody List<BookingAnalyticsDTO> bookings);
+
+    @PostMapping("/users/batch")
+    IngestionResponse addUsers(@RequestBody List<UserAnalyticsDTO> users);
+
 }
@@ -0,0 +1,111 @@
+package main.qrcode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Writes a {@link QrCode} as a 1-bit grayscale PNG. Rows are packed straight
+ * into a single reusable buffer and streamed through the deflater, so no
+ * intermediate image is ever allocated.
+ */
+public final class QrPngWriter {
+
+    public static final int DEFAULT_BORDER = 4;
+
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    private final int scale;
+    private final int border;
+
+    public QrPngWriter(int scale, int border) {
+        if (scale < 1 || border < 0) {
+            throw new IllegalArgumentException("Scale must be positive and border non-negative");
+        }
+        this.scale = scale;
+        this.border = border;
+    }
+
+    public byte[] toPng(QrCode qr) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(1024);
+        try {
+            write(qr, out);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not write QR code PNG", e);
+        }
+        return out.toByteArray();
+    }
+
+    public void write(QrCode qr, OutputStream out) throws IOException {
+        int modules = qr.getSize() + border * 2;
+        int pixels = modules * scale;
+
+        out.write(PNG_SIGNATURE);
+
+        byte[] header = new byte[13];
+        putInt(header, 0, pixels);
+        putInt(header, 4, pixels);
+        header[8] = 1;
+        header[9] = 0;
+        header[10] = 0;
+        header[11] = 0;
+        header[12] = 0;
+        writeChunk(out, "IHDR", header, header.length);
+
+        ByteArrayOutputStream idat = new ByteArrayOutputStream(pixels * 4);
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (DeflaterOutputStream zip = new DeflaterOutputStream(idat, deflater)) {
+            byte[] row = new byte[1 + (pixels + 7) / 8];
+            for (int my = 0; my < modules; my++) {
+                Arrays.fill(row, (byte) 0);
+                for (int mx = 0; mx < modules; mx++) {
+                    if (!qr.isDark(mx - border, my - border)) {
+                        setWhite(row, mx * scale, scale);
+                    }
+                }
+                for (int s = 0; s < scale; s++) {
+                    zip.write(row);
+                }
+            }
+        } finally {
+            deflater.end();
+        }
+        writeChunk(out, "IDAT", idat.toByteArray(), idat.size());
+
+        writeChunk(out, "IEND", new byte[0], 0);
+    }
+
+    private static void setWhite(byte[] row, int startPixel, int count) {
+        for (int p = startPixel; p < startPixel + count; p++) {
+            row[1 + (p >>> 3)] |= (byte) (0x80 >>> (p & 7));
+        }
+    }
+
+    private static void writeChunk(OutputStream out, String type, byte[] data, int length) throws IOException {
+        byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        byte[] lengthBytes = new byte[4];
+        putInt(lengthBytes, 0, length);
+        out.write(lengthBytes);
+        out.write(typeBytes);
+        out.write(data, 0, length);
+
+        CRC32 crc = new CRC32();
+        crc.update(typeBytes);
+        crc.update(data, 0, length);
+        byte[] crcBytes = new byte[4];
+        putInt(crcBytes, 0, (int) crc.getValue());
+        out.write(crcBytes);
+    }
+
+    private static void putInt(byte[] target, int offset, int value) {
+        target[offset] = (byte) (value >>> 24);
+        target[offset + 1] = (byte) (value >>> 16);
+        target[offset + 2] = (byte) (value >>> 8);
+        target[offset + 3] = (byte) value;
+    }
+}
@@ -0,0 +1,39 @@
+package main.repositories;
+
+import jakarta.transaction.Transactional;
+import main.entities.AnalyticsOutboxMessage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface AnalyticsOutboxRepository extends JpaRepository<AnalyticsOutboxMessage, Long> {
+
+    List<AnalyticsOutboxMessage> findByAttemptsLessThanAndNextAttemptAtLessThanEqualOrderByIdAsc(
+            int maxAttempts, LocalDateTime now, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE AnalyticsOutboxMessage m SET m.attempts = m.attempts + 1, m.nextAttemptAt = :nextAttemptAt "
+            + "WHERE m.id IN :ids")
+    int incrementAttempts(@Param("ids") Collection<Long> ids, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    long countByAttemptsGreaterThanEqual(int maxAttempts);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE AnalyticsOutboxMessage m SET m.attempts = 0, m.nextAttemptAt = :now WHERE m.attempts >= :maxAttempts")
+    int resetAttemptsFrom(@Param("maxAttempts") int maxAttempts, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM AnalyticsOutboxMessage m WHERE m.attempts >= :maxAttempts")
+    int deleteByAttemptsFrom(@Param("maxAttempts") int maxAttempts);
+}
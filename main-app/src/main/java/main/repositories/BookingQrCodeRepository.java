@@ -0,0 +1,17 @@
+package main.repositories;
+
+import main.entities.BookingQrCode;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface BookingQrCodeRepository extends JpaRepository<BookingQrCode, UUID> {
+
+    @Query("SELECT q.etag FROM BookingQrCode q WHERE q.bookingId = :bookingId")
+    Optional<String> findEtagByBookingId(@Param("bookingId") UUID bookingId);
+}
@@ -1,15 +1,65 @@
 package main.repositories;
 
+import jakarta.transaction.Transactional;
 import main.entities.Booking;
+import main.entities.FulfillmentStatus;
 import main.entities.User;
+import main.web.dto.BookingAnalyticsDTO;
+import main.web.dto.BookingStatusDTO;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, UUID> {
-    List<Booking> findByUser(User user);
+    @EntityGraph(attributePaths = "event")
+    List<Booking> findByUserOrderByBookedOnDesc(User user);
 
+    @EntityGraph(attributePaths = "event")
+    Optional<Booking> findWithEventById(UUID id);
+
+    @EntityGraph(attributePaths = {"event", "user"})
+    Optional<Booking> findWithEventAndUserById(UUID id);
+
+    @Query("""
+               SELECT new main.web.dto.BookingStatusDTO(b.id, b.status, b.fulfillmentStatus)
+               FROM Booking b
+               WHERE b.id = :id
+            """)
+    Optional<BookingStatusDTO> findStatusById(@Param("id") UUID id);
+
+    @Query("""
+               SELECT new main.web.dto.BookingAnalyticsDTO(b.id, b.event.id, b.user.id, b.seatsBooked, b.totalPrice)
+               FROM Booking b
+            """)
+    List<BookingAnalyticsDTO> findAllAnalytics();
+
+    @Transactional
+    @Modifying
+    @Query("""
+               UPDATE Booking b SET b.fulfillmentStatus = :status, b.fulfillmentUpdatedOn = :now
+               WHERE b.id = :id
+            """)
+    int updateFulfillmentStatus(@Param("id") UUID id,
+                                @Param("status") FulfillmentStatus status,
+                                @Param("now") LocalDateTime now);
+
+    @Query("""
+               SELECT b.id FROM Booking b
+               WHERE b.fulfillmentStatus IN :statuses AND b.fulfillmentUpdatedOn < :before
+               ORDER BY b.fulfillmentUpdatedOn
+            """)
+    List<UUID> findIdsByFulfillmentStatusUpdatedBefore(@Param("statuses") Collection<FulfillmentStatus> statuses,
+                                                       @Param("before") LocalDateTime before,
+                                                       Limit limit);
 }
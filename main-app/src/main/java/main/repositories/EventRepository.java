@@ -2,27 +2,74 @@ package main.repositories;
 
 import main.entities.Event;
 import main.entities.User;
+import main.security.EventPermissionFacts;
+import main.web.dto.EventSnapshot;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface EventRepository extends JpaRepository<Event, UUID> {
-    @Query("SELECT e FROM Event e WHERE e.startDate > :now")
-    List<Event> findAllUpcoming(@Param("now") LocalDateTime now);
-
     List<Event> findAllByCreator(User creator);
 
-    List<Event> findAllByEndDateBeforeAndArchivedFalse(LocalDateTime now);
+    @Query("""
+               SELECT e.id FROM Event e
+               WHERE e.archived = false AND e.endDate < :cutoff
+               ORDER BY e.endDate
+            """)
+    List<UUID> findExpiredIds(@Param("cutoff") LocalDateTime cutoff, Limit limit);
+
+    @Query("""
+               SELECT DISTINCT e.endDate FROM Event e
+               WHERE e.archived = false AND e.endDate >= :from AND e.endDate < :to
+            """)
+    List<LocalDateTime> findEndDatesBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Modifying
+    @Query("UPDATE Event e SET e.archived = true WHERE e.id IN :ids AND e.archived = false")
+    int archiveByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("""
+               SELECT new main.web.dto.EventSnapshot(
+                      e.id, e.name, e.description, e.startDate, e.endDate, e.venue, e.location,
+                      e.price, e.totalSeats, e.availableSeats,
+                      c.id, c.username, c.email, c.role, c.name, c.age, c.createdAt)
+               FROM Event e LEFT JOIN e.creator c
+               WHERE e.archived = false AND e.startDate > :now
+               ORDER BY e.startDate
+            """)
+    List<EventSnapshot> findUpcomingSnapshots(@Param("now") LocalDateTime now);
+
+    @Query("""
+               SELECT new main.security.EventPermissionFacts(e.id, c.id, e.availableSeats)
+               FROM Event e LEFT JOIN e.creator c
+               WHERE e.id IN :ids
+            """)
+    List<EventPermissionFacts> findPermissionFactsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT e.availableSeats FROM Event e WHERE e.id = :id")
+    Optional<Integer> findAvailableSeatsById(@Param("id") UUID id);
+
+    @Modifying
+    @Query("""
+               UPDATE Event e SET e.availableSeats = e.availableSeats - :seats
+               WHERE e.id = :id AND e.availableSeats >= :seats
+            """)
+    int decrementAvailableSeats(@Param("id") UUID id, @Param("seats") int seats);
 
+    @Modifying
     @Query("""
-               SELECT e FROM Event e
-               WHERE e.startDate > :now AND e.archived = false
+               UPDATE Event e SET e.availableSeats = e.availableSeats + :seats
+               WHERE e.id = :id AND e.availableSeats + :seats <= e.totalSeats
             """)
-    List<Event> findAllUpcomingNotArchived(LocalDateTime now);
+    int incrementAvailableSeats(@Param("id") UUID id, @Param("seats") int seats);
 }
@@ -0,0 +1,19 @@
+package main.scheduler;
+
+import main.services.AnalyticsOutboxService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AnalyticsOutboxRelay {
+    private final AnalyticsOutboxService analyticsOutboxService;
+
+    public AnalyticsOutboxRelay(AnalyticsOutboxService analyticsOutboxService) {
+        this.analyticsOutboxService = analyticsOutboxService;
+    }
+
+    @Scheduled(fixedDelayString = "${analytics.outbox.relay-interval-ms:2000}", initialDelay = 5_000)
+    public void relay() {
+        analyticsOutboxService.relayPending();
+    }
+}
@@ -0,0 +1,19 @@
+package main.scheduler;
+
+import main.services.BookingFulfillmentService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class BookingFulfillmentScheduler {
+    private final BookingFulfillmentService bookingFulfillmentService;
+
+    public BookingFulfillmentScheduler(BookingFulfillmentService bookingFulfillmentService) {
+        this.bookingFulfillmentService = bookingFulfillmentService;
+    }
+
+    @Scheduled(fixedDelay = 60_000, initialDelay = 30_000)
+    public void retryStalledFulfillments() {
+        bookingFulfillmentService.retryStalled();
+    }
+}
@@ -1,28 +1,22 @@
 package main.scheduler;
 
 import lombok.extern.slf4j.Slf4j;
-import main.services.EventService;
+import main.services.EventExpiryScheduler;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
 public class EventScheduler {
-    private final EventService eventService;
+    private final EventExpiryScheduler eventExpiryScheduler;
 
-    public EventScheduler(EventService eventService) {
-        this.eventService = eventService;
+    public EventScheduler(EventExpiryScheduler eventExpiryScheduler) {
+        this.eventExpiryScheduler = eventExpiryScheduler;
     }
 
-    @Scheduled(fixedRate = 86_400_000, initialDelay = 10_000)
-    public void dailyCleanup() {
-        eventService.removeExpiredEvents();
-    }
-
-    @Scheduled(cron = "0 0/5 * * * *", zone = "Europe/Sofia")
-    public void preWarmUpcomingEventsCache() {
-        int size = eventService.getUpcomingEvents().size();
-        log.info("Cache refreshed. Upcoming events = {}", size);
+    @Scheduled(fixedDelayString = "${events.expiry.reconcile-interval-ms:900000}", initialDelay = 10_000)
+    public void reconcileExpiredEvents() {
+        eventExpiryScheduler.reconcile();
     }
 
 }
@@ -0,0 +1,72 @@
+package main.security;
+
+import lombok.RequiredArgsConstructor;
+import main.config.CacheConfig;
+import main.repositories.EventRepository;
+import main.services.TransactionCallbacks;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Short-lived cache of {@link EventPermissionFacts} keyed by event id. Permission
+ * decisions are computed from the facts in memory, so one entry serves every
+ * (user, role) pair and an ownership or seat change only has to evict one key.
+ */
+@Component
+@RequiredArgsConstructor
+public class EventPermissionCache {
+
+    private final EventRepository eventRepository;
+    private final CacheManager cacheManager;
+
+    public Optional<EventPermissionFacts> get(UUID eventId) {
+        return Optional.ofNullable(getAll(List.of(eventId)).get(eventId));
+    }
+
+    public Map<UUID, EventPermissionFacts> getAll(Collection<UUID> eventIds) {
+        Cache cache = cache();
+        Map<UUID, EventPermissionFacts> facts = new HashMap<>();
+        List<UUID> missing = new ArrayList<>();
+        for (UUID eventId : eventIds) {
+            EventPermissionFacts cached = cache.get(eventId, EventPermissionFacts.class);
+            if (cached != null) {
+                facts.put(eventId, cached);
+            } else {
+                missing.add(eventId);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            for (EventPermissionFacts loaded : eventRepository.findPermissionFactsByIdIn(missing)) {
+                cache.put(loaded.eventId(), loaded);
+                facts.put(loaded.eventId(), loaded);
+            }
+        }
+        return facts;
+    }
+
+    public void evict(UUID eventId) {
+        TransactionCallbacks.afterCommit(() -> cache().evict(eventId));
+    }
+
+    public void clear() {
+        TransactionCallbacks.afterCommit(() -> cache().clear());
+    }
+
+    private Cache cache() {
+        Cache cache = cacheManager.getCache(CacheConfig.EVENT_PERMISSIONS);
+        if (cache == null) {
+            throw new IllegalStateException("Cache " + CacheConfig.EVENT_PERMISSIONS + " is not configured");
+        }
+        return cache;
+    }
+}
@@ -0,0 +1,35 @@
+package main.security;
+
+import main.web.dto.EventSnapshot;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Booking and edit/delete rules for events, evaluated on data that is already in
+ * memory so listing pages do not need a query per event.
+ */
+@Component
+public class EventPermissionEvaluator {
+
+    public boolean canBook(EventSnapshot event, UUID userId) {
+        return canBook(event.creatorId(), event.availableSeats(), userId);
+    }
+
+    public boolean canBook(UUID creatorId, Integer availableSeats, UUID userId) {
+        boolean hasSeats = availableSeats != null && availableSeats > 0;
+        return hasSeats && (creatorId == null || !creatorId.equals(userId));
+    }
+
+    public boolean canEditOrDelete(EventSnapshot event, UUID userId, String role) {
+        return canEditOrDelete(event.creatorId(), event.availableSeats(), userId, role);
+    }
+
+    public boolean canEditOrDelete(UUID creatorId, int availableSeats, UUID userId, String role) {
+        boolean isAdmin = "ADMIN".equals(role);
+        boolean isOwner = creatorId != null && creatorId.equals(userId);
+        boolean isActive = availableSeats > 0;
+
+        return isAdmin || (isOwner && isActive);
+    }
+}
@@ -0,0 +1,10 @@
+package main.security;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * The only event data the edit/delete rule depends on.
+ */
+public record EventPermissionFacts(UUID eventId, UUID creatorId, int availableSeats) implements Serializable {
+}
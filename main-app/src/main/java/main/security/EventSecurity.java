@@ -1,33 +1,43 @@
 package main.security;
 
 import lombok.RequiredArgsConstructor;
-import main.entities.Event;
-import main.services.EventService;
+import main.exceptions.EventNotFoundException;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 
 @Component("eventSecurity")
 @RequiredArgsConstructor
 public class EventSecurity {
-    private final EventService eventService;
+    private final EventPermissionCache permissionCache;
+    private final EventPermissionEvaluator permissionEvaluator;
 
     public boolean isOwner(UUID eventId, UUID userId) {
-        Event event = eventService.findById(eventId);
-        if (event.getCreator() == null) {
-            return false;
-        }
-        return event.getCreator().getId().equals(userId);
+        EventPermissionFacts facts = facts(eventId);
+        return facts.creatorId() != null && facts.creatorId().equals(userId);
     }
 
     public boolean canEditOrDelete(UUID eventId, UUID userId, String role) {
-        Event event = eventService.findById(eventId);
-        if (event == null) return false;
+        EventPermissionFacts facts = facts(eventId);
+        return permissionEvaluator.canEditOrDelete(facts.creatorId(), facts.availableSeats(), userId, role);
+    }
 
-        boolean isAdmin = "ADMIN".equals(role);
-        boolean isOwner = isOwner(eventId, userId);
-        boolean isActive = event.getAvailableSeats() > 0;
+    public Map<UUID, Boolean> canEditOrDelete(Collection<UUID> eventIds, UUID userId, String role) {
+        Map<UUID, EventPermissionFacts> facts = permissionCache.getAll(eventIds);
+        Map<UUID, Boolean> decisions = new HashMap<>();
+        for (UUID eventId : eventIds) {
+            EventPermissionFacts eventFacts = facts.get(eventId);
+            decisions.put(eventId, eventFacts != null && permissionEvaluator.canEditOrDelete(
+                    eventFacts.creatorId(), eventFacts.availableSeats(), userId, role));
+        }
+        return decisions;
+    }
 
-        return isAdmin || (isOwner && isActive);
+    private EventPermissionFacts facts(UUID eventId) {
+        return permissionCache.get(eventId)
+                .orElseThrow(() -> new EventNotFoundException("Event not found"));
     }
 }
@@ -0,0 +1,242 @@
+package main.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import main.entities.AnalyticsMessageType;
+import main.entities.AnalyticsOutboxMessage;
+import main.entities.Booking;
+import main.entities.Event;
+import main.entities.User;
+import main.microservices.AnalyticsClient;
+import main.repositories.AnalyticsOutboxRepository;
+import main.web.dto.BookingAnalyticsDTO;
+import main.web.dto.EventAnalyticsDTO;
+import main.web.dto.IngestionItemResult;
+import main.web.dto.IngestionResponse;
+import main.web.dto.UserAnalyticsDTO;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Transactional outbox for analytics. Changes are recorded in the same transaction
+ * as the booking/event/user write and relayed to the analytics microservice in
+ * batches by {@link #relayPending()}, so request threads never call it directly.
+ * <p>
+ * A message that fails waits before it is tried again, twice as long after each failure
+ * up to {@link #MAX_BACKOFF}, so a microservice outage is not hammered every sweep.
+ * A message that fails {@value #MAX_ATTEMPTS} times is dead: it is logged once at
+ * ERROR, counted, and left in the table until it is re-driven or purged through the
+ * analyticsoutbox actuator endpoint.
+ */
+@Slf4j
+@Service
+public class AnalyticsOutboxService {
+
+    static final int BATCH_SIZE = 200;
+    static final int MAX_ATTEMPTS = 20;
+    static final Duration INITIAL_BACKOFF = Duration.ofSeconds(5);
+    static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+    private final AnalyticsOutboxRepository outboxRepository;
+    private final AnalyticsClient analyticsClient;
+    private final ObjectMapper objectMapper;
+    private final Counter deadLettered;
+
+    public AnalyticsOutboxService(AnalyticsOutboxRepository outboxRepository,
+                                  AnalyticsClient analyticsClient,
+                                  ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.analyticsClient = analyticsClient;
+        this.objectMapper = objectMapper;
+        this.deadLettered = meterRegistry.counter("analytics.outbox.dead.lettered");
+        Gauge.builder("analytics.outbox.dead", this, AnalyticsOutboxService::countDead)
+                .description("Analytics outbox messages that are no longer retried")
+                .register(meterRegistry);
+    }
+
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void enqueueUser(User user) {
+        enqueue(AnalyticsMessageType.USER, user.getId(), new UserAnalyticsDTO(user.getId(), user.getUsername()));
+    }
+
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void enqueueEvent(Event event) {
+        enqueue(AnalyticsMessageType.EVENT, event.getId(),
+                new EventAnalyticsDTO(event.getId(), event.getName(), event.getTotalSeats(), event.getPrice()));
+    }
+
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void enqueueBooking(Booking booking) {
+        enqueue(AnalyticsMessageType.BOOKING, booking.getId(), new BookingAnalyticsDTO(
+                booking.getId(),
+                booking.getEvent().getId(),
+                booking.getUser().getId(),
+                booking.getSeatsBooked(),
+                booking.getTotalPrice()));
+    }
+
+    public void relayPending() {
+        while (relayBatch()) {
+            log.debug("Analytics outbox backlog remaining, relaying next batch");
+        }
+    }
+
+    public long countDead() {
+        return outboxRepository.countByAttemptsGreaterThanEqual(MAX_ATTEMPTS);
+    }
+
+    public int redriveDead() {
+        int redriven = outboxRepository.resetAttemptsFrom(MAX_ATTEMPTS, LocalDateTime.now());
+        log.warn("Re-driving {} dead analytics outbox messages", redriven);
+        return redriven;
+    }
+
+    public int purgeDead() {
+        int purged = outboxRepository.deleteByAttemptsFrom(MAX_ATTEMPTS);
+        log.warn("Purged {} dead analytics outbox messages", purged);
+        return purged;
+    }
+
+    boolean relayBatch() {
+        List<AnalyticsOutboxMessage> batch = outboxRepository.findByAttemptsLessThanAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                MAX_ATTEMPTS, LocalDateTime.now(), PageRequest.of(0, BATCH_SIZE));
+        if (batch.isEmpty()) {
+            return false;
+        }
+
+        Map<AnalyticsMessageType, List<AnalyticsOutboxMessage>> byType = new EnumMap<>(AnalyticsMessageType.class);
+        for (AnalyticsOutboxMessage message : batch) {
+            byType.computeIfAbsent(message.getType(), type -> new ArrayList<>()).add(message);
+        }
+
+        boolean allDelivered = true;
+        for (Map.Entry<AnalyticsMessageType, List<AnalyticsOutboxMessage>> entry : byType.entrySet()) {
+            allDelivered &= send(entry.getKey(), entry.getValue());
+        }
+        return allDelivered && batch.size() == BATCH_SIZE;
+    }
+
+    private boolean send(AnalyticsMessageType type, List<AnalyticsOutboxMessage> messages) {
+        IngestionResponse response;
+        try {
+            response = switch (type) {
+                case USER -> analyticsClient.addUsers(read(messages, UserAnalyticsDTO.class));
+                case EVENT -> analyticsClient.addEvents(read(messages, EventAnalyticsDTO.class));
+                case BOOKING -> analyticsClient.confirmBookings(read(messages, BookingAnalyticsDTO.class));
+            };
+        } catch (RuntimeException e) {
+            log.warn("Could not relay {} {} analytics messages, will retry", messages.size(), type, e);
+            retry(messages);
+            return false;
+        }
+
+        // A truncated response does not say which of the unlisted items failed, so the
+        // whole batch is sent again; the microservice reports repeats as duplicates.
+        if (response != null && response.isTruncated()) {
+            log.warn("Analytics microservice did not list every rejected {} message, retrying all {}",
+                    type, messages.size());
+            retry(messages);
+            return false;
+        }
+
+        List<AnalyticsOutboxMessage> rejected = rejected(messages, response);
+        List<Long> delivered = messages.stream()
+                .filter(message -> !rejected.contains(message))
+                .map(AnalyticsOutboxMessage::getId)
+                .toList();
+        if (!delivered.isEmpty()) {
+            outboxRepository.deleteAllByIdInBatch(delivered);
+        }
+        if (!rejected.isEmpty()) {
+            IngestionItemResult first = response.getRejected().get(0);
+            log.warn("Analytics microservice rejected {} of {} {} messages, will retry (first: {} {})",
+                    rejected.size(), messages.size(), type, first.getStatus(), first.getMessage());
+            retry(rejected);
+            return false;
+        }
+        log.debug("Relayed {} {} analytics messages", messages.size(), type);
+        return true;
+    }
+
+    private List<AnalyticsOutboxMessage> rejected(List<AnalyticsOutboxMessage> messages, IngestionResponse response) {
+        if (response == null) {
+            return List.of();
+        }
+        List<AnalyticsOutboxMessage> rejected = new ArrayList<>();
+        for (IngestionItemResult item : response.getRejected()) {
+            if (item.getIndex() >= 0 && item.getIndex() < messages.size()) {
+                rejected.add(messages.get(item.getIndex()));
+            }
+        }
+        return rejected;
+    }
+
+    private void retry(List<AnalyticsOutboxMessage> messages) {
+        Map<Integer, List<Long>> idsByAttempts = new TreeMap<>();
+        for (AnalyticsOutboxMessage message : messages) {
+            idsByAttempts.computeIfAbsent(message.getAttempts() + 1, attempts -> new ArrayList<>()).add(message.getId());
+        }
+        LocalDateTime now = LocalDateTime.now();
+        idsByAttempts.forEach((attempts, ids) -> outboxRepository.incrementAttempts(ids, now.plus(backoff(attempts))));
+        deadLetter(messages);
+    }
+
+    static Duration backoff(int attempts) {
+        Duration delay = INITIAL_BACKOFF.multipliedBy(1L << Math.min(attempts - 1, 30));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+
+    // Only the failure that reaches the cap lands here, so each message is reported once.
+    private void deadLetter(List<AnalyticsOutboxMessage> failed) {
+        for (AnalyticsOutboxMessage message : failed) {
+            if (message.getAttempts() + 1 >= MAX_ATTEMPTS) {
+                deadLettered.increment();
+                log.error("Analytics outbox message {} ({} {}) failed {} times and will not be retried; "
+                                + "re-drive or purge it through the analyticsoutbox actuator endpoint",
+                        message.getId(), message.getType(), message.getAggregateId(), MAX_ATTEMPTS);
+            }
+        }
+    }
+
+    private void enqueue(AnalyticsMessageType type, UUID aggregateId, Object payload) {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            outboxRepository.save(AnalyticsOutboxMessage.builder()
+                    .type(type)
+                    .aggregateId(aggregateId)
+                    .payload(objectMapper.writeValueAsString(payload))
+                    .createdOn(now)
+                    .nextAttemptAt(now)
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialise analytics payload for " + aggregateId, e);
+        }
+    }
+
+    private <T> List<T> read(List<AnalyticsOutboxMessage> messages, Class<T> payloadType) {
+        List<T> payloads = new ArrayList<>(messages.size());
+        for (AnalyticsOutboxMessage message : messages) {
+            try {
+                payloads.add(objectMapper.readValue(message.getPayload(), payloadType));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Corrupt analytics outbox message " + message.getId(), e);
+            }
+        }
+        return payloads;
+    }
+}
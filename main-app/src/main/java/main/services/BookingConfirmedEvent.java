@@ -0,0 +1,6 @@
+package main.services;
+
+import java.util.UUID;
+
+public record BookingConfirmedEvent(UUID bookingId) {
+}
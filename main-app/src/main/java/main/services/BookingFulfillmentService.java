@@ -0,0 +1,162 @@
+package main.services;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import main.entities.Booking;
+import main.entities.BookingQrCode;
+import main.entities.BookingStatus;
+import main.entities.FulfillmentStatus;
+import main.repositories.BookingQrCodeRepository;
+import main.repositories.BookingRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+
+/**
+ * Runs the side effects of a booking confirmation (QR code, PDF ticket)
+ * after the confirming transaction has committed, so the request only pays for
+ * the database write. Progress is tracked in {@link Booking#getFulfillmentStatus()}.
+ */
+@Slf4j
+@Service
+public class BookingFulfillmentService {
+
+    static final int MAX_ATTEMPTS = 3;
+    static final long INITIAL_BACKOFF_MS = 200;
+    static final Duration STALLED_AFTER = Duration.ofMinutes(2);
+
+    private final BookingRepository bookingRepository;
+    private final BookingQrCodeRepository bookingQrCodeRepository;
+    private final QRCodeService qrCodeService;
+    private final PdfService pdfService;
+    private final MeterRegistry meterRegistry;
+    private final Executor fulfillmentExecutor;
+    private final int retryBatchSize;
+
+    public BookingFulfillmentService(BookingRepository bookingRepository,
+                                     BookingQrCodeRepository bookingQrCodeRepository,
+                                     QRCodeService qrCodeService,
+                                     PdfService pdfService,
+                                     MeterRegistry meterRegistry,
+                                     @Qualifier("bookingFulfillmentExecutor") Executor fulfillmentExecutor,
+                                     @Value("${booking.fulfillment.retry-batch-size:100}") int retryBatchSize) {
+        this.bookingRepository = bookingRepository;
+        this.bookingQrCodeRepository = bookingQrCodeRepository;
+        this.qrCodeService = qrCodeService;
+        this.pdfService = pdfService;
+        this.meterRegistry = meterRegistry;
+        this.fulfillmentExecutor = fulfillmentExecutor;
+        this.retryBatchSize = retryBatchSize;
+    }
+
+    @Async("bookingFulfillmentExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBookingConfirmed(BookingConfirmedEvent event) {
+        fulfil(event.bookingId());
+    }
+
+    public void fulfil(UUID bookingId) {
+        Booking booking = bookingRepository.findWithEventAndUserById(bookingId).orElse(null);
+        if (booking == null || booking.getStatus() != BookingStatus.CONFIRMED) {
+            log.warn("Skipping fulfillment of booking {}: not confirmed", bookingId);
+            return;
+        }
+
+        bookingRepository.updateFulfillmentStatus(bookingId, FulfillmentStatus.PROCESSING, LocalDateTime.now());
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean completed = runStage("qr-code", bookingId, () -> storeQrCode(booking))
+                && runStage("pdf", bookingId, () -> pdfService.warmCache(booking));
+
+        FulfillmentStatus status = completed ? FulfillmentStatus.COMPLETED : FulfillmentStatus.FAILED;
+        bookingRepository.updateFulfillmentStatus(bookingId, status, LocalDateTime.now());
+        sample.stop(meterRegistry.timer("bookings.fulfillment", "status", status.name().toLowerCase()));
+        log.info("Fulfillment of booking {} finished with status {}", bookingId, status);
+    }
+
+    /**
+     * Hands the oldest stalled bookings, at most {@code retryBatchSize} per sweep, to the
+     * fulfillment executor. Anything beyond the batch, or rejected by a full queue, is
+     * still stalled on the next sweep.
+     */
+    public void retryStalled() {
+        List<UUID> stalled = bookingRepository.findIdsByFulfillmentStatusUpdatedBefore(
+                List.of(FulfillmentStatus.PENDING, FulfillmentStatus.PROCESSING),
+                LocalDateTime.now().minus(STALLED_AFTER),
+                Limit.of(retryBatchSize));
+
+        if (!stalled.isEmpty()) {
+            meterRegistry.counter("bookings.fulfillment.stalled").increment(stalled.size());
+            log.info("Retrying fulfillment of {} stalled bookings", stalled.size());
+        }
+        for (UUID bookingId : stalled) {
+            fulfillmentExecutor.execute(() -> fulfil(bookingId));
+        }
+    }
+
+    private void storeQrCode(Booking booking) {
+        if (bookingQrCodeRepository.existsById(booking.getId())) {
+            return;
+        }
+
+        String qrData = "Event: " + booking.getEvent().getName()
+                + "Seats: " + booking.getSeatsBooked()
+                + "Start Date: " + booking.getEvent().getStartDate()
+                + "End Date: " + booking.getEvent().getEndDate();
+
+        byte[] qrImage = qrCodeService.generateQRCodePng(qrData);
+        bookingQrCodeRepository.save(BookingQrCode.builder()
+                .bookingId(booking.getId())
+                .image(qrImage)
+                .etag(sha256Hex(qrImage))
+                .createdOn(LocalDateTime.now())
+                .build());
+    }
+
+    private boolean runStage(String stage, UUID bookingId, Runnable action) {
+        long backoff = INITIAL_BACKOFF_MS;
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            try {
+                action.run();
+                return true;
+            } catch (RuntimeException e) {
+                meterRegistry.counter("bookings.fulfillment.stage.failures", "stage", stage).increment();
+                log.warn("Fulfillment stage {} failed for booking {} (attempt {}/{})",
+                        stage, bookingId, attempt, MAX_ATTEMPTS, e);
+            }
+
+            if (attempt < MAX_ATTEMPTS) {
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+                backoff *= 2;
+            }
+        }
+        return false;
+    }
+
+    private static String sha256Hex(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package main.services;
 
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import main.entities.Booking;
+import main.entities.BookingQrCode;
 import main.entities.BookingStatus;
 import main.entities.Event;
+import main.entities.FulfillmentStatus;
 import main.entities.User;
 import main.exceptions.BookingAlreadyCancelledException;
 import main.exceptions.BookingAlreadyConfirmedException;
@@ -12,13 +16,15 @@ import main.exceptions.NoAvailableSeatsException;
 import main.exceptions.NotFoundBookingException;
 import lombok.RequiredArgsConstructor;
 import main.web.dto.BookingAnalyticsDTO;
+import main.web.dto.BookingStatusDTO;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import main.repositories.BookingRepository;
+import main.repositories.BookingQrCodeRepository;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -26,15 +32,21 @@ import java.util.stream.Collectors;
 public class BookingService {
 
     private final BookingRepository bookingRepository;
+    private final BookingQrCodeRepository bookingQrCodeRepository;
     private final EventService eventService;
-    private final QRCodeService qrCodeService;
+    private final SeatInventoryService seatInventoryService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AnalyticsOutboxService analyticsOutboxService;
+    private final MeterRegistry meterRegistry;
 
     @Transactional
+    @Timed(value = "bookings.operations", extraTags = {"operation", "create"})
     public Booking createBooking(User user, Event event, int seats) {
         log.info("User {} is attempting to create a booking for event {} with {} seats",
                 user.getUsername(), event.getName(), seats);
         if (event.getAvailableSeats() < seats) {
             log.warn("Booking failed: Not enough seats available for event {}", event.getName());
+            seatsRejected("create");
             throw new NoAvailableSeatsException("Not enough available seats");
         }
 
@@ -54,10 +66,11 @@ public class BookingService {
     }
 
     @Transactional
+    @Timed(value = "bookings.operations", extraTags = {"operation", "confirm"})
     public Booking confirmBooking(UUID bookingId) {
         log.info("Attempting to confirm booking with id {}", bookingId);
 
-        Booking booking = bookingRepository.findById(bookingId)
+        Booking booking = bookingRepository.findWithEventAndUserById(bookingId)
                 .orElseThrow(() -> {
                     log.warn("Booking {} not found!", bookingId);
                     return new NotFoundBookingException("Booking not found");
@@ -70,37 +83,32 @@ public class BookingService {
 
         Event event = booking.getEvent();
 
-        if (booking.getSeatsBooked() > event.getAvailableSeats()) {
+        if (!seatInventoryService.reserve(event, booking.getSeatsBooked())) {
             log.error("Cannot confirm booking {}: not enough seats", bookingId);
+            seatsRejected("confirm");
             throw new IllegalStateException("Not enough available seats to confirm this booking.");
         }
 
-        event.setAvailableSeats(event.getAvailableSeats() - booking.getSeatsBooked());
-        eventService.update(event);
-
         double totalPrice = event.getPrice() * booking.getSeatsBooked();
         booking.setTotalPrice(totalPrice);
         booking.setStatus(BookingStatus.CONFIRMED);
-
-        String qrData = "Event: " + booking.getEvent().getName()
-                + "Seats: " + booking.getSeatsBooked()
-                + "Start Date: " + booking.getEvent().getStartDate()
-                + "End Date: " + booking.getEvent().getEndDate();
-
-        String qrBase64 = qrCodeService.generateQRCodeBase64(qrData);
-        booking.setQrCodeBase64(qrBase64);
+        booking.setFulfillmentStatus(FulfillmentStatus.PENDING);
+        booking.setFulfillmentUpdatedOn(LocalDateTime.now());
 
         bookingRepository.save(booking);
+        analyticsOutboxService.enqueueBooking(booking);
+        eventPublisher.publishEvent(new BookingConfirmedEvent(booking.getId()));
 
         log.info("Booking {} confirmed successfully for user {}", bookingId, booking.getUser().getUsername());
         return booking;
     }
 
     @Transactional
+    @Timed(value = "bookings.operations", extraTags = {"operation", "cancel"})
     public Booking cancelBooking(UUID bookingId) {
         log.info("Attempting to cancel booking with id {}", bookingId);
 
-        Booking booking = bookingRepository.findById(bookingId)
+        Booking booking = bookingRepository.findWithEventById(bookingId)
                 .orElseThrow(() -> {
                     log.warn("Booking {} not found", bookingId);
                     return new NotFoundBookingException("Booking not found");
@@ -111,6 +119,9 @@ public class BookingService {
             throw new BookingAlreadyCancelledException("Booking already cancelled");
         }
 
+        if (booking.getStatus() == BookingStatus.CONFIRMED) {
+            seatInventoryService.release(booking.getEvent(), booking.getSeatsBooked());
+        }
         booking.setStatus(BookingStatus.CANCELLED);
 
         save(booking);
@@ -120,7 +131,7 @@ public class BookingService {
     }
 
     public List<Booking> findByUser(User user) {
-        return bookingRepository.findByUser(user);
+        return bookingRepository.findByUserOrderByBookedOnDesc(user);
     }
 
     public void save(Booking booking) {
@@ -128,17 +139,30 @@ public class BookingService {
     }
 
     public Booking getBooking(UUID bookingId) {
-        return bookingRepository.findById(bookingId)
+        return bookingRepository.findWithEventAndUserById(bookingId)
                 .orElseThrow(() -> new NotFoundBookingException("Booking not found"));
     }
 
+    public BookingStatusDTO getStatus(UUID bookingId) {
+        return bookingRepository.findStatusById(bookingId)
+                .orElseThrow(() -> new NotFoundBookingException("Booking not found"));
+    }
+
+    public String getQrCodeEtag(UUID bookingId) {
+        return bookingQrCodeRepository.findEtagByBookingId(bookingId)
+                .orElseThrow(() -> new NotFoundBookingException("QR code not found"));
+    }
+
+    public BookingQrCode getQrCode(UUID bookingId) {
+        return bookingQrCodeRepository.findById(bookingId)
+                .orElseThrow(() -> new NotFoundBookingException("QR code not found"));
+    }
+
     public List<BookingAnalyticsDTO> getAllBookings() {
-        return bookingRepository.findAll().stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+        return bookingRepository.findAllAnalytics();
     }
 
-    private BookingAnalyticsDTO mapToDTO(Booking booking) {
+    public BookingAnalyticsDTO mapToDTO(Booking booking) {
         BookingAnalyticsDTO dto = new BookingAnalyticsDTO();
         dto.setId(booking.getId());
         dto.setEventId(booking.getEvent().getId());
@@ -148,4 +172,7 @@ public class BookingService {
         return dto;
     }
 
+    private void seatsRejected(String operation) {
+        meterRegistry.counter("bookings.seats.rejected", "operation", operation).increment();
+    }
 }
@@ -0,0 +1,78 @@
+package main.services;
+
+import lombok.extern.slf4j.Slf4j;
+import main.repositories.EventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Archives events within about a second of their end date. End dates inside the
+ * look-ahead horizon become one-shot ticks on the task scheduler, coalesced per second,
+ * and each tick runs the bulk archiver. {@link #reconcile()} is the safety net: it
+ * archives anything a tick missed (restarts, other instances, failures) and registers
+ * end dates that have moved into the horizon.
+ */
+@Slf4j
+@Component
+public class EventExpiryScheduler {
+
+    private final TaskScheduler taskScheduler;
+    private final ExpiredEventArchiver expiredEventArchiver;
+    private final EventRepository eventRepository;
+    private final Duration horizon;
+    private final Map<Instant, ScheduledFuture<?>> ticks = new ConcurrentHashMap<>();
+
+    public EventExpiryScheduler(TaskScheduler taskScheduler,
+                                ExpiredEventArchiver expiredEventArchiver,
+                                EventRepository eventRepository,
+                                @Value("${events.expiry.horizon:PT2H}") Duration horizon) {
+        this.taskScheduler = taskScheduler;
+        this.expiredEventArchiver = expiredEventArchiver;
+        this.eventRepository = eventRepository;
+        this.horizon = horizon;
+    }
+
+    public void register(LocalDateTime endDate) {
+        if (endDate != null) {
+            TransactionCallbacks.afterCommit(() -> schedule(endDate));
+        }
+    }
+
+    public void reconcile() {
+        LocalDateTime now = LocalDateTime.now();
+        expiredEventArchiver.archiveEndedBefore(now);
+
+        ticks.values().removeIf(ScheduledFuture::isDone);
+        eventRepository.findEndDatesBetween(now, now.plus(horizon)).forEach(this::schedule);
+        log.debug("Expiry reconciliation done, {} ticks pending", ticks.size());
+    }
+
+    private void schedule(LocalDateTime endDate) {
+        Instant tick = endDate.atZone(ZoneId.systemDefault()).toInstant()
+                .truncatedTo(ChronoUnit.SECONDS)
+                .plusSeconds(1);
+        if (tick.isAfter(Instant.now().plus(horizon))) {
+            return;
+        }
+        ticks.computeIfAbsent(tick, at -> taskScheduler.schedule(() -> fire(at), at));
+    }
+
+    private void fire(Instant tick) {
+        ticks.remove(tick);
+        try {
+            expiredEventArchiver.archiveEndedBefore(LocalDateTime.now());
+        } catch (RuntimeException e) {
+            log.warn("Archiving events that ended at {} failed, leaving it to the reconciliation sweep", tick, e);
+        }
+    }
+}
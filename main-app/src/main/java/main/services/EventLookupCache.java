@@ -0,0 +1,50 @@
+package main.services;
+
+import lombok.RequiredArgsConstructor;
+import main.config.CacheConfig;
+import main.repositories.EventRepository;
+import main.web.dto.EventSnapshot;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Event snapshots in the eventsById cache, for the pages that only display an event.
+ * The entity itself is not cached: its lazy bookings cannot be loaded once detached,
+ * and code that books or edits an event needs a managed instance. Unknown events are
+ * not cached, and evictions run after the surrounding transaction commits.
+ */
+@Component
+@RequiredArgsConstructor
+public class EventLookupCache {
+
+    private final EventRepository eventRepository;
+    private final CacheManager cacheManager;
+
+    public Optional<EventSnapshot> findById(UUID id) {
+        EventSnapshot cached = cache().get(id, EventSnapshot.class);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return eventRepository.findById(id).map(event -> {
+            EventSnapshot snapshot = EventSnapshot.of(event);
+            cache().put(snapshot.id(), snapshot);
+            return snapshot;
+        });
+    }
+
+    public void evict(UUID id) {
+        TransactionCallbacks.afterCommit(() -> cache().evict(id));
+    }
+
+    private Cache cache() {
+        Cache cache = cacheManager.getCache(CacheConfig.EVENTS_BY_ID);
+        if (cache == null) {
+            throw new IllegalStateException("Cache " + CacheConfig.EVENTS_BY_ID + " is not configured");
+        }
+        return cache;
+    }
+}
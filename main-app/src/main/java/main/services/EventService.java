@@ -1,5 +1,6 @@
 package main.services;
 
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import main.entities.Event;
@@ -9,11 +10,11 @@ import lombok.RequiredArgsConstructor;
 import main.web.dto.EditEventDTO;
 import main.web.dto.EventAnalyticsDTO;
 import main.web.dto.UserDTO;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import main.repositories.EventRepository;
+import main.security.EventPermissionCache;
 import main.web.dto.EventDTO;
+import main.web.dto.EventSnapshot;
 
 import java.nio.file.AccessDeniedException;
 import java.time.LocalDateTime;
@@ -25,6 +26,12 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class EventService {
     private final EventRepository eventRepository;
+    private final AnalyticsOutboxService analyticsOutboxService;
+    private final UpcomingEventsCache upcomingEventsCache;
+    private final EventPermissionCache eventPermissionCache;
+    private final EventExpiryScheduler eventExpiryScheduler;
+    private final SeatInventoryService seatInventoryService;
+    private final EventLookupCache eventLookupCache;
 
     public Event findById(UUID id) {
         log.info("Fetching event with id {}", id);
@@ -35,14 +42,17 @@ public class EventService {
                 });
     }
 
-    public List<Event> findUpcomingEvents() {
-        return eventRepository.findAllUpcoming(LocalDateTime.now());
+    public EventSnapshot getSnapshot(UUID id) {
+        return eventLookupCache.findById(id)
+                .orElseThrow(() -> new EventNotFoundException("Event not found"));
     }
 
     public void save(Event event) {
         eventRepository.save(event);
     }
 
+    @Transactional
+    @Timed(value = "events.operations", extraTags = {"operation", "create"})
     public Event create(EventDTO eventDTO, User user) {
         log.info("User {} is attempting to create event '{}'", user.getUsername(), eventDTO.getName());
 
@@ -66,12 +76,16 @@ public class EventService {
                 .build();
 
         save(event);
+        analyticsOutboxService.enqueueEvent(event);
+        upcomingEventsCache.invalidate();
+        eventExpiryScheduler.register(event.getEndDate());
         log.info("Event '{}' created successfully with id {}", event.getName(), event.getId());
 
         return event;
     }
 
     @Transactional
+    @Timed(value = "events.operations", extraTags = {"operation", "update"})
     public Event update(UUID id, EditEventDTO eventDTO) {
         log.info("Updating event with id {}", id);
 
@@ -97,6 +111,12 @@ public class EventService {
         if (eventDTO.getPrice() != null) event.setPrice(eventDTO.getPrice());
 
         Event updatedEvent = eventRepository.save(event);
+        analyticsOutboxService.enqueueEvent(updatedEvent);
+        upcomingEventsCache.invalidate();
+        eventPermissionCache.evict(id);
+        seatInventoryService.evict(id);
+        eventLookupCache.evict(id);
+        eventExpiryScheduler.register(event.getEndDate());
         log.info("Event with id {} updated successfully", id);
 
         return updatedEvent;
@@ -104,6 +124,10 @@ public class EventService {
 
     public void update(Event event) {
         eventRepository.save(event);
+        upcomingEventsCache.invalidate();
+        eventPermissionCache.evict(event.getId());
+        seatInventoryService.evict(event.getId());
+        eventLookupCache.evict(event.getId());
     }
 
     public EventDTO mapToDTO(Event event) {
@@ -135,6 +159,7 @@ public class EventService {
                 .build();
     }
 
+    @Timed(value = "events.operations", extraTags = {"operation", "delete"})
     public void delete(UUID id, User currentUser) throws AccessDeniedException {
         log.info("User {} attempting to delete event with id {}", currentUser.getUsername(), id);
 
@@ -155,6 +180,10 @@ public class EventService {
 
         event.setArchived(true);
         eventRepository.save(event);
+        upcomingEventsCache.invalidate();
+        eventPermissionCache.evict(id);
+        seatInventoryService.evict(id);
+        eventLookupCache.evict(id);
         log.info("Event with id {} deleted successfully by user {}", id, currentUser.getUsername());
     }
 
@@ -162,24 +191,11 @@ public class EventService {
         return eventRepository.findAllByCreator(user);
     }
 
-    @Cacheable("upcomingEvents")
-    public List<Event> getUpcomingEvents() {
-        return eventRepository.findAllUpcomingNotArchived(LocalDateTime.now());
-
-    }
-
-    @Transactional
-    @CacheEvict(value = "upcomingEvents", allEntries = true)
-    public void removeExpiredEvents() {
-        List<Event> expiredEvents = eventRepository.findAllByEndDateBeforeAndArchivedFalse(LocalDateTime.now());
-
-        for (Event event : expiredEvents) {
-            event.setArchived(true);
-        }
-
-        eventRepository.saveAll(expiredEvents);
-
-        log.info("Archived {} expired events", expiredEvents.size());
+    public List<EventSnapshot> getUpcomingEvents() {
+        LocalDateTime now = LocalDateTime.now();
+        return upcomingEventsCache.get().stream()
+                .filter(event -> event.startDate().isAfter(now))
+                .toList();
     }
 
     public EventAnalyticsDTO mapToAnalytics(Event event) {
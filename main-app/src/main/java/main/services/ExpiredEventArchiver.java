@@ -0,0 +1,77 @@
+package main.services;
+
+import lombok.extern.slf4j.Slf4j;
+import main.repositories.EventRepository;
+import main.security.EventPermissionCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Archives ended events with bulk UPDATEs in chunks of bounded size, one transaction
+ * per chunk, without loading the entities. The archived ids are evicted from the
+ * event caches and the seat counters once their chunk has committed.
+ */
+@Slf4j
+@Component
+public class ExpiredEventArchiver {
+
+    private final EventRepository eventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final UpcomingEventsCache upcomingEventsCache;
+    private final EventPermissionCache eventPermissionCache;
+    private final SeatInventoryService seatInventoryService;
+    private final EventLookupCache eventLookupCache;
+    private final int chunkSize;
+
+    public ExpiredEventArchiver(EventRepository eventRepository,
+                                PlatformTransactionManager transactionManager,
+                                UpcomingEventsCache upcomingEventsCache,
+                                EventPermissionCache eventPermissionCache,
+                                SeatInventoryService seatInventoryService,
+                                EventLookupCache eventLookupCache,
+                                @Value("${events.archive.chunk-size:500}") int chunkSize) {
+        this.eventRepository = eventRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.upcomingEventsCache = upcomingEventsCache;
+        this.eventPermissionCache = eventPermissionCache;
+        this.seatInventoryService = seatInventoryService;
+        this.eventLookupCache = eventLookupCache;
+        this.chunkSize = chunkSize;
+    }
+
+    public List<UUID> archiveEndedBefore(LocalDateTime cutoff) {
+        List<UUID> archived = new ArrayList<>();
+        List<UUID> chunk;
+        do {
+            chunk = transactionTemplate.execute(status -> archiveChunk(cutoff));
+            archived.addAll(chunk);
+        } while (chunk.size() == chunkSize);
+
+        log.info("Archived {} events that ended before {}", archived.size(), cutoff);
+        return archived;
+    }
+
+    private List<UUID> archiveChunk(LocalDateTime cutoff) {
+        List<UUID> ids = eventRepository.findExpiredIds(cutoff, Limit.of(chunkSize));
+        if (ids.isEmpty()) {
+            return ids;
+        }
+
+        int updated = eventRepository.archiveByIdIn(ids);
+        log.debug("Archived chunk of {} events ({} selected)", updated, ids.size());
+
+        upcomingEventsCache.removeAll(ids);
+        ids.forEach(eventPermissionCache::evict);
+        ids.forEach(seatInventoryService::evict);
+        ids.forEach(eventLookupCache::evict);
+        return ids;
+    }
+}
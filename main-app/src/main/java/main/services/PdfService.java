@@ -1,41 +1,178 @@
 package main.services;
 
+import com.itextpdf.io.font.FontProgram;
+import com.itextpdf.io.font.FontProgramFactory;
+import com.itextpdf.io.font.PdfEncodings;
+import com.itextpdf.io.font.constants.StandardFonts;
 import com.itextpdf.kernel.colors.ColorConstants;
 import com.itextpdf.kernel.colors.DeviceRgb;
+import com.itextpdf.kernel.font.PdfFontFactory;
+import com.itextpdf.kernel.geom.PageSize;
+import com.itextpdf.kernel.geom.Rectangle;
 import com.itextpdf.kernel.pdf.PdfDocument;
 import com.itextpdf.kernel.pdf.PdfPage;
+import com.itextpdf.kernel.pdf.PdfReader;
 import com.itextpdf.kernel.pdf.PdfWriter;
 import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
+import com.itextpdf.layout.Canvas;
 import com.itextpdf.layout.Document;
 import com.itextpdf.layout.element.Paragraph;
 import com.itextpdf.layout.properties.TextAlignment;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import main.entities.Booking;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.time.LocalDateTime;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Stream;
 
+/**
+ * Renders booking tickets in memory. The static part of the page (background and
+ * title) is built and parsed once into a read-only template document; every ticket
+ * copies that page and is stamped on top of it into a buffer sized from the template,
+ * so rendering rarely has to grow it. Rendered tickets can optionally be kept in a
+ * bounded on-disk cache keyed by booking id and a fingerprint of the printed details,
+ * so a ticket is rendered again once its event or user has been edited.
+ */
+@Slf4j
 @Service
 public class PdfService {
 
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+    private static final PageSize PAGE_SIZE = PageSize.A4;
+    private static final float MARGIN = 36f;
+    private static final float HEADER_HEIGHT = 80f;
+    private static final int INITIAL_BUFFER_SIZE = 16 * 1024;
+    private static final int BODY_ALLOWANCE = 8 * 1024;
+    private static final int UUID_LENGTH = 36;
 
-    public File generateBookingPdf(String username,
-                                   String email,
-                                   String eventName,
-                                   LocalDateTime startDate, LocalDateTime endDate,
-                                   int seats,
-                                   LocalDateTime bookingDate, double totalPrice) throws FileNotFoundException {
+    // Read-only, but a PdfDocument is not thread-safe, so page copies are synchronised on it.
+    private final PdfDocument template;
+    private final FontProgram bodyFont;
+    private final int renderBufferSize;
 
-        String fileName = "booking_" + username + ".pdf";
-        PdfWriter writer = new PdfWriter(fileName);
-        PdfDocument pdf = new PdfDocument(writer);
-        Document document = new Document(pdf);
+    private final boolean cacheEnabled;
+    private final Path cacheDirectory;
+    private final int cacheMaxEntries;
+    private final Map<UUID, Path> cacheIndex = new LinkedHashMap<>(16, 0.75f, true);
+    private final Timer generation;
 
+    public PdfService(@Value("${pdf.cache.enabled:false}") boolean cacheEnabled,
+                      @Value("${pdf.cache.directory:${java.io.tmpdir}/event-booking-pdf}") Path cacheDirectory,
+                      @Value("${pdf.cache.max-entries:500}") int cacheMaxEntries,
+                      MeterRegistry meterRegistry) {
+        this.generation = meterRegistry.timer("bookings.pdf.generation");
+        byte[] templateBytes = buildTemplate();
+        this.template = parseTemplate(templateBytes);
+        this.renderBufferSize = templateBytes.length + BODY_ALLOWANCE;
+        this.bodyFont = loadFont(StandardFonts.HELVETICA);
+        this.cacheEnabled = cacheEnabled;
+        this.cacheDirectory = cacheDirectory;
+        this.cacheMaxEntries = cacheMaxEntries;
+
+        if (cacheEnabled) {
+            loadCacheIndex();
+        }
+    }
+
+    public byte[] getBookingPdf(Booking booking) {
+        if (!cacheEnabled) {
+            return generateBookingPdf(booking);
+        }
+
+        UUID bookingId = booking.getId();
+        String version = version(booking);
+        Path cached = cachedPath(bookingId, version);
+        if (cached != null) {
+            try {
+                return Files.readAllBytes(cached);
+            } catch (IOException e) {
+                log.warn("Could not read cached PDF for booking {}, rendering again", bookingId, e);
+                evict(bookingId);
+            }
+        }
+
+        byte[] pdf = generateBookingPdf(booking);
+        store(bookingId, version, pdf);
+        return pdf;
+    }
+
+    public void warmCache(Booking booking) {
+        if (!cacheEnabled) {
+            return;
+        }
+        String version = version(booking);
+        if (cachedPath(booking.getId(), version) == null) {
+            store(booking.getId(), version, generateBookingPdf(booking));
+        }
+    }
+
+    public byte[] generateBookingPdf(Booking booking) {
+        return generation.record(() -> render(booking));
+    }
+
+    private byte[] render(Booking booking) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(renderBufferSize);
+
+        try (PdfDocument pdf = new PdfDocument(new PdfWriter(buffer))) {
+            synchronized (template) {
+                template.copyPagesTo(1, 1, pdf);
+            }
+            PdfPage page = pdf.getFirstPage();
+            Rectangle body = new Rectangle(MARGIN, MARGIN,
+                    PAGE_SIZE.getWidth() - 2 * MARGIN,
+                    PAGE_SIZE.getHeight() - 2 * MARGIN - HEADER_HEIGHT);
+
+            try (Canvas canvas = new Canvas(page, body)) {
+                canvas.setFont(PdfFontFactory.createFont(bodyFont, PdfEncodings.WINANSI));
+                canvas.add(bookingDetails(booking));
+            }
+        }
+
+        return buffer.toByteArray();
+    }
+
+    private Paragraph bookingDetails(Booking booking) {
+        String eventName = booking.getEvent().getName();
+        String safeEventName = (eventName != null && !eventName.isEmpty()) ? eventName : "Unnamed Event";
+
+        return new Paragraph()
+                .setFontSize(22)
+                .setFontColor(ColorConstants.BLACK)
+                .setTextAlignment(TextAlignment.LEFT)
+                .add("👤 Name: " + booking.getUser().getName() + "\n")
+                .add("Email: " + booking.getUser().getEmail() + "\n")
+                .add("🎟 Event Name: " + safeEventName + "\n")
+                .add("🕒 Start Date: " + booking.getEvent().getStartDate().format(FORMATTER) + "\n")
+                .add("🕓 End Date: " + booking.getEvent().getEndDate().format(FORMATTER) + "\n")
+                .add("📅 Booking Date: " + booking.getBookedOn().format(FORMATTER) + "\n\n")
+                .add("Seats Booked: " + booking.getSeatsBooked() + "\n")
+                .add("Total Price: " + booking.getTotalPrice() + " lv." + "\n")
+                .add("✅ Thank you for booking! Enjoy the event.");
+    }
+
+    private static byte[] buildTemplate() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+        PdfDocument pdf = new PdfDocument(new PdfWriter(out));
+        Document document = new Document(pdf, PAGE_SIZE);
 
         DeviceRgb backgroundColor = new DeviceRgb(255, 213, 181);
-        PdfPage page = pdf.addNewPage();
+        PdfPage page = pdf.addNewPage(PAGE_SIZE);
 
         PdfCanvas canvas = new PdfCanvas(page);
         canvas.saveState()
@@ -52,24 +189,121 @@ public class PdfService {
                 .setMarginBottom(30f);
         document.add(title);
 
-        String safeEventName = (eventName != null && !eventName.isEmpty()) ? eventName : "Unnamed Event";
+        document.close();
+        return out.toByteArray();
+    }
 
-        Paragraph text = new Paragraph()
-                .setFontSize(22)
-                .setFontColor(ColorConstants.BLACK)
-                .setTextAlignment(TextAlignment.LEFT)
-                .add("👤 Name: " + username + "\n")
-                .add("Email: " + email + "\n")
-                .add("🎟 Event Name: " + safeEventName + "\n")
-                .add("🕒 Start Date: " + startDate.format(FORMATTER) + "\n")
-                .add("🕓 End Date: " + endDate.format(FORMATTER) + "\n")
-                .add("📅 Booking Date: " + bookingDate.format(FORMATTER) + "\n\n")
-                .add("Seats Booked: " + seats + "\n")
-                .add("Total Price: " + totalPrice + " lv." + "\n")
-                .add("✅ Thank you for booking! Enjoy the event.");
-        document.add(text);
+    private static PdfDocument parseTemplate(byte[] template) {
+        try {
+            return new PdfDocument(new PdfReader(new ByteArrayInputStream(template)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not parse booking PDF template", e);
+        }
+    }
 
-        document.close();
-        return new File(fileName);
+    // Everything printed on the ticket, so editing the event or the user's details changes it.
+    private static String version(Booking booking) {
+        return Integer.toHexString(Objects.hash(
+                booking.getUser().getName(),
+                booking.getUser().getEmail(),
+                booking.getEvent().getName(),
+                booking.getEvent().getStartDate(),
+                booking.getEvent().getEndDate(),
+                booking.getBookedOn(),
+                booking.getSeatsBooked(),
+                booking.getTotalPrice()));
+    }
+
+    private static String fileName(UUID bookingId, String version) {
+        return bookingId + "-" + version + ".pdf";
+    }
+
+    private static FontProgram loadFont(String name) {
+        try {
+            return FontProgramFactory.createFont(name);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not load font " + name, e);
+        }
+    }
+
+    private synchronized Path cachedPath(UUID bookingId, String version) {
+        Path path = cacheIndex.get(bookingId);
+        if (path != null && !path.getFileName().toString().equals(fileName(bookingId, version))) {
+            evict(bookingId);
+            return null;
+        }
+        return path;
+    }
+
+    private synchronized void evict(UUID bookingId) {
+        Path path = cacheIndex.remove(bookingId);
+        if (path != null) {
+            deleteQuietly(path);
+        }
+    }
+
+    private void store(UUID bookingId, String version, byte[] pdf) {
+        Path target = cacheDirectory.resolve(fileName(bookingId, version));
+        try {
+            Path tmp = Files.createTempFile(cacheDirectory, bookingId.toString(), ".tmp");
+            Files.write(tmp, pdf);
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Could not cache PDF for booking {}", bookingId, e);
+            return;
+        }
+
+        synchronized (this) {
+            Path previous = cacheIndex.put(bookingId, target);
+            if (previous != null && !previous.equals(target)) {
+                deleteQuietly(previous);
+            }
+            trimCache();
+        }
+    }
+
+    private synchronized void trimCache() {
+        Iterator<Map.Entry<UUID, Path>> eldest = cacheIndex.entrySet().iterator();
+        while (cacheIndex.size() > cacheMaxEntries && eldest.hasNext()) {
+            deleteQuietly(eldest.next().getValue());
+            eldest.remove();
+        }
+    }
+
+    private void loadCacheIndex() {
+        try {
+            Files.createDirectories(cacheDirectory);
+            try (Stream<Path> files = Files.list(cacheDirectory)) {
+                files.filter(path -> path.getFileName().toString().endsWith(".pdf"))
+                        .sorted(Comparator.comparingLong(path -> path.toFile().lastModified()))
+                        .forEach(path -> {
+                            // <booking id>-<version>.pdf; anything else, including unversioned files, is dropped.
+                            String name = path.getFileName().toString();
+                            try {
+                                if (name.length() <= UUID_LENGTH + 5 || name.charAt(UUID_LENGTH) != '-') {
+                                    throw new IllegalArgumentException(name);
+                                }
+                                Path previous = cacheIndex.put(UUID.fromString(name.substring(0, UUID_LENGTH)), path);
+                                if (previous != null) {
+                                    deleteQuietly(previous);
+                                }
+                            } catch (IllegalArgumentException e) {
+                                deleteQuietly(path);
+                            }
+                        });
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not initialise PDF cache in " + cacheDirectory, e);
+        }
+        trimCache();
+        log.info("PDF cache enabled in {} with {} entries", cacheDirectory, cacheIndex.size());
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete cached PDF {}", path, e);
+        }
     }
 }
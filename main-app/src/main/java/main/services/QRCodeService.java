@@ -1,25 +1,34 @@
 package main.services;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import main.qrcode.QrCode;
+import main.qrcode.QrPngWriter;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
-import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 
 @Service
 public class QRCodeService {
+
+    private static final int TARGET_SIZE_PX = 250;
+
+    private final Timer generation;
+
+    public QRCodeService(MeterRegistry meterRegistry) {
+        this.generation = meterRegistry.timer("bookings.qr.generation");
+    }
+
+    public byte[] generateQRCodePng(String text) {
+        return generation.record(() -> {
+            QrCode qr = QrCode.encodeText(text, QrCode.Ecc.MEDIUM);
+            int modules = qr.getSize() + QrPngWriter.DEFAULT_BORDER * 2;
+            int scale = Math.max(1, TARGET_SIZE_PX / modules);
+            return new QrPngWriter(scale, QrPngWriter.DEFAULT_BORDER).toPng(qr);
+        });
+    }
+
     public String generateQRCodeBase64(String text) {
-        try {
-            String url = "https://api.qrserver.com/v1/create-qr-code/?data="
-                    + java.net.URLEncoder.encode(text, StandardCharsets.UTF_8)
-                    + "&size=250x250";
-
-            RestTemplate restTemplate = new RestTemplate();
-            byte[] imageBytes = restTemplate.getForObject(url, byte[].class);
-            return Base64.getEncoder().encodeToString(imageBytes);
-
-        } catch (Exception e) {
-            throw new RuntimeException("Could not generate QR Code", e);
-        }
+        return Base64.getEncoder().encodeToString(generateQRCodePng(text));
     }
 }
@@ -0,0 +1,132 @@
+package main.services;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import main.entities.Event;
+import main.repositories.EventRepository;
+import main.security.EventPermissionCache;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reserves seats with a guarded UPDATE so the database never goes below zero,
+ * fronted by per-event in-memory counters that turn away sold-out requests
+ * without locking the event row. A rejection is only final after a fresh read:
+ * seats freed on another instance or by an admin edit are not visible to this
+ * node's counter, so a rejection reloads it from the database and tries once more.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatInventoryService {
+
+    private final EventRepository eventRepository;
+    private final UpcomingEventsCache upcomingEventsCache;
+    private final EventPermissionCache eventPermissionCache;
+    private final EventLookupCache eventLookupCache;
+
+    private final Map<UUID, AtomicInteger> counters = new ConcurrentHashMap<>();
+
+    @Transactional
+    public boolean reserve(Event event, int seats) {
+        UUID eventId = event.getId();
+        AtomicInteger counter = acquire(eventId, seats);
+        if (counter == null) {
+            log.warn("Seat reservation rejected for event {}: {} seats requested", eventId, seats);
+            return false;
+        }
+
+        int updated;
+        try {
+            updated = eventRepository.decrementAvailableSeats(eventId, seats);
+        } catch (RuntimeException e) {
+            counter.addAndGet(seats);
+            throw e;
+        }
+
+        if (updated == 0) {
+            log.warn("Seat counter for event {} was ahead of the database, resyncing", eventId);
+            counters.remove(eventId, counter);
+            return false;
+        }
+
+        onRollback(() -> counter.addAndGet(seats));
+        event.setAvailableSeats(event.getAvailableSeats() - seats);
+        upcomingEventsCache.seatsChanged(eventId, -seats);
+        eventPermissionCache.evict(eventId);
+        eventLookupCache.evict(eventId);
+        return true;
+    }
+
+    @Transactional
+    public void release(Event event, int seats) {
+        UUID eventId = event.getId();
+        if (eventRepository.incrementAvailableSeats(eventId, seats) == 0) {
+            log.warn("Could not release {} seats for event {}", seats, eventId);
+            counters.remove(eventId);
+            return;
+        }
+
+        AtomicInteger counter = counters.get(eventId);
+        if (counter != null) {
+            counter.addAndGet(seats);
+            onRollback(() -> counter.addAndGet(-seats));
+        }
+        event.setAvailableSeats(event.getAvailableSeats() + seats);
+        upcomingEventsCache.seatsChanged(eventId, seats);
+        eventPermissionCache.evict(eventId);
+        eventLookupCache.evict(eventId);
+    }
+
+    public void evict(UUID eventId) {
+        TransactionCallbacks.afterCommit(() -> counters.remove(eventId));
+    }
+
+    private AtomicInteger acquire(UUID eventId, int seats) {
+        AtomicInteger counter = counters.get(eventId);
+        if (counter != null && tryAcquire(counter, seats)) {
+            return counter;
+        }
+        AtomicInteger reloaded = reload(eventId, counter);
+        return tryAcquire(reloaded, seats) ? reloaded : null;
+    }
+
+    // Replaces the stale counter unless another thread has already put a newer one in place.
+    private AtomicInteger reload(UUID eventId, AtomicInteger stale) {
+        AtomicInteger fresh = new AtomicInteger(eventRepository.findAvailableSeatsById(eventId).orElse(0));
+        return counters.compute(eventId, (id, current) -> current == null || current == stale ? fresh : current);
+    }
+
+    private static boolean tryAcquire(AtomicInteger counter, int seats) {
+        while (true) {
+            int current = counter.get();
+            if (current < seats) {
+                return false;
+            }
+            if (counter.compareAndSet(current, current - seats)) {
+                return true;
+            }
+        }
+    }
+
+    private static void onRollback(Runnable compensation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    compensation.run();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,196 @@
+package main.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import main.config.CacheConfig;
+import main.repositories.EventRepository;
+import main.web.dto.EventSnapshot;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.stereotype.Component;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Upcoming, non-archived events as immutable snapshots in the upcomingEvents cache.
+ * Event changes evict the listing and seat changes patch the affected snapshot in
+ * place, both only after the surrounding transaction commits so a concurrent reader
+ * cannot put uncommitted data back into the cache.
+ * <p>
+ * Once a listing is older than the refresh-after age it keeps being served while a
+ * single background reload replaces it, so readers never wait on the expiry. Only a
+ * missing listing is loaded on the request thread, and concurrent readers share
+ * that one load.
+ */
+@Slf4j
+@Component
+public class UpcomingEventsCache {
+
+    private final EventRepository eventRepository;
+    private final CacheManager cacheManager;
+    private final Executor refreshExecutor;
+    private final Duration refreshAfter;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private long version;
+
+    private final Timer syncLoads;
+    private final Timer asyncLoads;
+    private final Counter staleServes;
+    private final Counter refreshFailures;
+
+    public UpcomingEventsCache(EventRepository eventRepository,
+                               CacheManager cacheManager,
+                               @Qualifier("cacheRefreshExecutor") Executor refreshExecutor,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.cache.upcoming-events.refresh-after:PT4M}") Duration refreshAfter) {
+        this.eventRepository = eventRepository;
+        this.cacheManager = cacheManager;
+        this.refreshExecutor = refreshExecutor;
+        this.refreshAfter = refreshAfter;
+        this.syncLoads = Timer.builder("events.upcoming.cache.load")
+                .tag("mode", "sync")
+                .register(meterRegistry);
+        this.asyncLoads = Timer.builder("events.upcoming.cache.load")
+                .tag("mode", "refresh-ahead")
+                .register(meterRegistry);
+        this.staleServes = meterRegistry.counter("events.upcoming.cache.stale.serves");
+        this.refreshFailures = meterRegistry.counter("events.upcoming.cache.refresh.failures");
+    }
+
+    public List<EventSnapshot> get() {
+        Cache cache = cache();
+        Listing listing = cache.get(SimpleKey.EMPTY, Listing.class);
+        if (listing == null) {
+            return cache.get(SimpleKey.EMPTY, () -> syncLoads.record(this::load)).events();
+        }
+
+        if (Duration.between(listing.loadedAt(), Instant.now()).compareTo(refreshAfter) >= 0) {
+            staleServes.increment();
+            refreshAsync();
+        }
+        return listing.events();
+    }
+
+    public void invalidate() {
+        TransactionCallbacks.afterCommit(this::evict);
+    }
+
+    public void seatsChanged(UUID eventId, int delta) {
+        TransactionCallbacks.afterCommit(() -> patchSeats(eventId, delta));
+    }
+
+    public void removeAll(Collection<UUID> eventIds) {
+        Set<UUID> removed = Set.copyOf(eventIds);
+        TransactionCallbacks.afterCommit(() -> remove(removed));
+    }
+
+    private void refreshAsync() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+
+        long startVersion = currentVersion();
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    Listing fresh = asyncLoads.record(this::load);
+                    putIfUnchanged(startVersion, fresh);
+                } catch (RuntimeException e) {
+                    refreshFailures.increment();
+                    log.warn("Refreshing upcoming events failed, serving the previous listing", e);
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.set(false);
+            log.debug("Upcoming events refresh rejected, will retry on a later read");
+        }
+    }
+
+    private Listing load() {
+        log.debug("Loading upcoming events into cache");
+        return new Listing(List.copyOf(eventRepository.findUpcomingSnapshots(LocalDateTime.now())), Instant.now());
+    }
+
+    private synchronized long currentVersion() {
+        return version;
+    }
+
+    // A refresh that started before an invalidation or patch would put outdated data back.
+    private synchronized void putIfUnchanged(long startVersion, Listing fresh) {
+        if (version == startVersion) {
+            cache().put(SimpleKey.EMPTY, fresh);
+        }
+    }
+
+    private synchronized void evict() {
+        version++;
+        cache().evict(SimpleKey.EMPTY);
+    }
+
+    private synchronized void patchSeats(UUID eventId, int delta) {
+        version++;
+        Cache cache = cache();
+        Listing cached = cache.get(SimpleKey.EMPTY, Listing.class);
+        if (cached == null) {
+            return;
+        }
+
+        List<EventSnapshot> patched = new ArrayList<>(cached.events().size());
+        boolean found = false;
+        for (EventSnapshot snapshot : cached.events()) {
+            if (snapshot.id().equals(eventId)) {
+                snapshot = snapshot.withAvailableSeats(snapshot.availableSeats() + delta);
+                found = true;
+            }
+            patched.add(snapshot);
+        }
+        if (found) {
+            cache.put(SimpleKey.EMPTY, new Listing(List.copyOf(patched), cached.loadedAt()));
+        }
+    }
+
+    private synchronized void remove(Set<UUID> eventIds) {
+        version++;
+        Cache cache = cache();
+        Listing cached = cache.get(SimpleKey.EMPTY, Listing.class);
+        if (cached == null) {
+            return;
+        }
+
+        List<EventSnapshot> remaining = cached.events().stream()
+                .filter(snapshot -> !eventIds.contains(snapshot.id()))
+                .toList();
+        if (remaining.size() != cached.events().size()) {
+            cache.put(SimpleKey.EMPTY, new Listing(remaining, cached.loadedAt()));
+        }
+    }
+
+    private Cache cache() {
+        Cache cache = cacheManager.getCache(CacheConfig.UPCOMING_EVENTS);
+        if (cache == null) {
+            throw new IllegalStateException("Cache " + CacheConfig.UPCOMING_EVENTS + " is not configured");
+        }
+        return cache;
+    }
+
+    private record Listing(List<EventSnapshot> events, Instant loadedAt) implements Serializable {
+    }
+}
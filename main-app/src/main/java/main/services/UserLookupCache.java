@@ -0,0 +1,53 @@
+package main.services;
+
+import lombok.RequiredArgsConstructor;
+import main.config.CacheConfig;
+import main.entities.User;
+import main.repositories.UserRepository;
+import main.web.dto.UserSnapshot;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * User snapshots in the usersById cache. Unknown users are not cached, and evictions
+ * run after the surrounding transaction commits. Authentication does not go through
+ * this cache: {@link UserService#loadUserByUsername} reads the password and blocked
+ * flag from the database on every login.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserLookupCache {
+
+    private final UserRepository userRepository;
+    private final CacheManager cacheManager;
+
+    public Optional<UserSnapshot> findById(UUID id) {
+        UserSnapshot cached = cache(CacheConfig.USERS_BY_ID).get(id, UserSnapshot.class);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return userRepository.findById(id).map(this::put);
+    }
+
+    public void evict(UUID id) {
+        TransactionCallbacks.afterCommit(() -> cache(CacheConfig.USERS_BY_ID).evict(id));
+    }
+
+    private UserSnapshot put(User user) {
+        UserSnapshot snapshot = UserSnapshot.of(user);
+        cache(CacheConfig.USERS_BY_ID).put(snapshot.id(), snapshot);
+        return snapshot;
+    }
+
+    private Cache cache(String name) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache == null) {
+            throw new IllegalStateException("Cache " + name + " is not configured");
+        }
+        return cache;
+    }
+}
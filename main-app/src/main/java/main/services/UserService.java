@@ -19,6 +19,7 @@ import org.springframework.stereotype.Service;
 import main.repositories.UserRepository;
 import main.web.dto.UserDTO;
 import main.web.dto.UserRegistrationDTO;
+import main.web.dto.UserSnapshot;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -31,6 +32,8 @@ public class UserService implements UserDetailsService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final AnalyticsOutboxService analyticsOutboxService;
+    private final UserLookupCache userLookupCache;
 
     public User findById(UUID id) {
         return userRepository.findById(id)
@@ -42,6 +45,15 @@ public class UserService implements UserDetailsService {
                 .orElseThrow(() -> new UserNotFoundException("User not found"));
     }
 
+    public UserSnapshot getSnapshot(UUID id) {
+        return userLookupCache.findById(id)
+                .orElseThrow(() -> new UserNotFoundException("User not found"));
+    }
+
+    public User getReference(UUID id) {
+        return userRepository.getReferenceById(id);
+    }
+
     public boolean isUsernameTaken(String username) {
         return userRepository.existsByUsername(username);
     }
@@ -54,6 +66,7 @@ public class UserService implements UserDetailsService {
         userRepository.save(user);
     }
 
+    @Transactional
     public User register(UserRegistrationDTO userDTO) {
         log.info("Attempting to register user with username: {}", userDTO.getUsername());
         if (isUsernameTaken(userDTO.getUsername())) {
@@ -74,6 +87,7 @@ public class UserService implements UserDetailsService {
                 .createdAt(LocalDateTime.now())
                 .build();
         save(user);
+        analyticsOutboxService.enqueueUser(user);
 
         log.info("User registered successfully with id: {}", user.getId());
         return user;
@@ -108,6 +122,7 @@ public class UserService implements UserDetailsService {
                     return new UserNotFoundException("User not found");
                 });
 
+        userLookupCache.evict(id);
         user.setUsername(userDTO.getUsername());
         user.setName(userDTO.getName());
         user.setAge(userDTO.getAge());
@@ -126,6 +141,7 @@ public class UserService implements UserDetailsService {
 
         user.setActive(!user.getActive());
         save(user);
+        userLookupCache.evict(id);
         log.info("User with id {} is now {}", id, user.getActive() ? "active" : "blocked");
     }
 
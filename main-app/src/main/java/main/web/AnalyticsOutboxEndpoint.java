@@ -0,0 +1,39 @@
+package main.web;
+
+import lombok.RequiredArgsConstructor;
+import main.services.AnalyticsOutboxService;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Admin operations on dead analytics outbox messages, at /actuator/analyticsoutbox:
+ * GET counts them, POST puts them back into the relay with fresh attempts and DELETE
+ * drops them.
+ */
+@Component
+@Endpoint(id = "analyticsoutbox")
+@RequiredArgsConstructor
+public class AnalyticsOutboxEndpoint {
+
+    private final AnalyticsOutboxService analyticsOutboxService;
+
+    @ReadOperation
+    public Map<String, Long> dead() {
+        return Map.of("dead", analyticsOutboxService.countDead());
+    }
+
+    @WriteOperation
+    public Map<String, Integer> redrive() {
+        return Map.of("redriven", analyticsOutboxService.redriveDead());
+    }
+
+    @DeleteOperation
+    public Map<String, Integer> purge() {
+        return Map.of("purged", analyticsOutboxService.purgeDead());
+    }
+}
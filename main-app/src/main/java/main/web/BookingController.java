@@ -1,6 +1,7 @@
 package main.web;
 
 import main.entities.Booking;
+import main.entities.BookingStatus;
 import main.entities.Event;
 import main.entities.User;
 import jakarta.validation.Valid;
@@ -8,10 +9,8 @@ import lombok.RequiredArgsConstructor;
 import main.exceptions.BookingAlreadyCancelledException;
 import main.exceptions.BookingAlreadyConfirmedException;
 import main.exceptions.NotFoundBookingException;
-import main.microservices.AnalyticsClient;
 import main.security.UserData;
 import main.services.*;
-import main.web.dto.BookingAnalyticsDTO;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -20,12 +19,8 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.ModelAndView;
 import main.web.dto.CreateBookingDTO;
+import main.web.dto.EventSnapshot;
 
-import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.security.Principal;
-import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Controller
@@ -38,25 +33,24 @@ public class BookingController {
     private final UserService userService;
     private final PdfService pdfService;
     private final BookingReminderService bookingReminderService;
-    private final AnalyticsClient analyticsClient;
 
     @GetMapping("/create/{eventId}")
     public ModelAndView showBookingForm(@PathVariable UUID eventId,
                                         @RequestParam(required = false) String from,
-                                        Principal principal) {
-        Event event = eventService.findById(eventId);
+                                        @AuthenticationPrincipal UserData userData) {
+        EventSnapshot event = eventService.getSnapshot(eventId);
         if (event == null) {
             return new ModelAndView("redirect:/events");
         }
 
-        UUID creatorId = event.getCreator() != null ? event.getCreator().getId() : null;
+        UUID creatorId = event.creatorId();
 
         ModelAndView mav = new ModelAndView("bookings/booking-form");
-        mav.addObject("event", event);
+        mav.addObject("event", event.toDTO());
         mav.addObject("creatorId", creatorId);
         mav.addObject("booking", new CreateBookingDTO());
         mav.addObject("backUrl", from != null ? from : "/events");
-        mav.addObject("currentUserId", principal != null ? userService.findByUsername(principal.getName()).getId() : null);
+        mav.addObject("currentUserId", userData != null ? userData.getUserId() : null);
         return mav;
     }
 
@@ -80,7 +74,7 @@ public class BookingController {
             return mav;
         }
 
-        User user = userService.findByUsername(userData.getUsername());
+        User user = userService.findById(userData.getUserId());
         Booking booking = bookingService.createBooking(user, event,
                 bookingDTO.getSeatsBooked());
 
@@ -107,16 +101,6 @@ public class BookingController {
 
         try {
             Booking booking = bookingService.confirmBooking(bookingId);
-            File pdf = pdfService.generateBookingPdf(
-                    booking.getUser().getName(),
-                    booking.getUser().getEmail(),
-                    booking.getEvent().getName(),
-                    booking.getEvent().getStartDate(),
-                    booking.getEvent().getEndDate(),
-                    booking.getSeatsBooked(),
-                    LocalDateTime.now(),
-                    booking.getTotalPrice()
-            );
 
             String googleCalendarLink = bookingReminderService.getGoogleCalendarLink(
                     booking.getEvent().getName(),
@@ -126,20 +110,11 @@ public class BookingController {
                     booking.getEvent().getEndDate()
             );
 
-            BookingAnalyticsDTO bookingDTO = new BookingAnalyticsDTO();
-            bookingDTO.setId(booking.getId());
-            bookingDTO.setEventId(booking.getEvent().getId());
-            bookingDTO.setUserId(booking.getUser().getId());
-            bookingDTO.setSeatsBooked(booking.getSeatsBooked());
-            bookingDTO.setPrice(booking.getTotalPrice());
-
-            analyticsClient.confirmBooking(bookingDTO);
-
             mav.addObject("message", "Your booking has been confirmed successfully!");
             mav.addObject("booking", booking);
             mav.addObject("event", booking.getEvent());
 
-            mav.addObject("pdfFileName", pdf.getName());
+            mav.addObject("pdfBookingId", booking.getId());
             mav.addObject("googleCalendarLink", googleCalendarLink);
 
         } catch (NotFoundBookingException e) {
@@ -192,14 +167,18 @@ public class BookingController {
         return mav;
     }
 
-    @GetMapping("/download/{fileName}")
-    public ResponseEntity<byte[]> downloadPdf(@PathVariable String fileName) throws IOException {
-        File file = new File(fileName);
-        byte[] pdfBytes = Files.readAllBytes(file.toPath());
+    @GetMapping("/download/{bookingId}")
+    public ResponseEntity<byte[]> downloadPdf(@PathVariable UUID bookingId) {
+        Booking booking = bookingService.getBooking(bookingId);
+        if (booking.getStatus() != BookingStatus.CONFIRMED) {
+            return ResponseEntity.notFound().build();
+        }
+        byte[] pdfBytes = pdfService.getBookingPdf(booking);
 
         return ResponseEntity.ok()
-                .header("Content-Disposition", "attachment; filename=" + file.getName())
+                .header("Content-Disposition", "attachment; filename=booking_" + bookingId + ".pdf")
                 .contentType(MediaType.APPLICATION_PDF)
+                .contentLength(pdfBytes.length)
                 .body(pdfBytes);
     }
 
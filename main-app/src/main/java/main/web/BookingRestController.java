@@ -1,46 +1,74 @@
 package main.web;
 
 import lombok.RequiredArgsConstructor;
-import main.entities.Booking;
+import main.entities.BookingQrCode;
 import main.entities.Event;
 import main.entities.User;
 import main.services.BookingService;
 import main.services.EventService;
 import main.services.UserService;
 import main.web.dto.BookingAnalyticsDTO;
+import main.web.dto.BookingStatusDTO;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.Base64;
+import java.time.Duration;
 import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/user/bookings")
 @RequiredArgsConstructor
 public class BookingRestController {
+    private static final CacheControl QR_CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(30)).cachePrivate();
+
     private final BookingService bookingService;
     private final UserService userService;
     private final EventService eventService;
 
     @PostMapping
-    public Booking createBooking(@RequestBody BookingAnalyticsDTO dto) {
+    public BookingAnalyticsDTO createBooking(@RequestBody BookingAnalyticsDTO dto) {
         User user = userService.findById(dto.getUserId());
         Event event = eventService.findById(dto.getEventId());
-        return bookingService.createBooking(user, event, dto.getSeatsBooked());
+        return bookingService.mapToDTO(bookingService.createBooking(user, event, dto.getSeatsBooked()));
     }
 
     @PostMapping("/confirm/{id}")
-    public Booking confirmBooking(@PathVariable UUID id) {
-        return bookingService.confirmBooking(id);
+    public BookingAnalyticsDTO confirmBooking(@PathVariable UUID id) {
+        return bookingService.mapToDTO(bookingService.confirmBooking(id));
+    }
+
+    @GetMapping("/{id}/status")
+    public BookingStatusDTO getStatus(@PathVariable UUID id) {
+        return bookingService.getStatus(id);
+    }
+
+    @GetMapping("/{id}/qr")
+    public ResponseEntity<byte[]> getQRCode(@PathVariable UUID id, WebRequest request) {
+        return serveQRCode(id, request, "inline");
     }
 
     @GetMapping("/download/{id}")
-    public ResponseEntity<byte[]> downloadQRCode(@PathVariable UUID id) {
-        Booking booking = bookingService.getBooking(id);
-        byte[] qrImage = Base64.getDecoder().decode(booking.getQrCodeBase64());
+    public ResponseEntity<byte[]> downloadQRCode(@PathVariable UUID id, WebRequest request) {
+        return serveQRCode(id, request, "attachment; filename=\"booking.png\"");
+    }
+
+    private ResponseEntity<byte[]> serveQRCode(UUID id, WebRequest request, String disposition) {
+        String etag = bookingService.getQrCodeEtag(id);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+
+        BookingQrCode qrCode = bookingService.getQrCode(id);
         return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"booking.png\"")
-                .body(qrImage);
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition)
+                .contentType(MediaType.IMAGE_PNG)
+                .contentLength(qrCode.getImage().length)
+                .cacheControl(QR_CACHE_CONTROL)
+                .eTag(etag)
+                .body(qrCode.getImage());
     }
 }
@@ -7,14 +7,15 @@ import jakarta.validation.Valid;
 import main.entities.Role;
 import main.entities.User;
 import main.exceptions.EventNotFoundException;
-import main.microservices.AnalyticsClient;
-import main.security.EventSecurity;
+import main.security.EventPermissionEvaluator;
+import main.security.UserData;
 import main.services.AiService;
 import main.services.UserService;
 import main.web.dto.EditEventDTO;
 import main.web.dto.UserDTO;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
@@ -38,63 +39,53 @@ public class EventController {
     private final EventService eventService;
     private final UserService userService;
     private final AiService aiService;
-    private final AnalyticsClient analyticsClient;
-    private final EventSecurity eventSecurity;
+    private final EventPermissionEvaluator permissionEvaluator;
 
     @Autowired
-    public EventController(EventService eventService, UserService userService, AiService aiService, AnalyticsClient analyticsClient, EventSecurity eventSecurity) {
+    public EventController(EventService eventService, UserService userService, AiService aiService,
+                           EventPermissionEvaluator permissionEvaluator) {
         this.eventService = eventService;
         this.userService = userService;
         this.aiService = aiService;
-        this.analyticsClient = analyticsClient;
-        this.eventSecurity = eventSecurity;
+        this.permissionEvaluator = permissionEvaluator;
     }
 
 
     @GetMapping
-    public ModelAndView eventPage(Principal principal,
+    public ModelAndView eventPage(@AuthenticationPrincipal UserData userData,
                                   @ModelAttribute("successMessage") String successMessage,
                                   @ModelAttribute("errorMessage") String errorMessage) {
-        if (principal != null) {
-            log.info("User {} accessed the events page", principal.getName());
+        if (userData != null) {
+            log.info("User {} accessed the events page", userData.getUsername());
         } else {
             log.info("Anonymous user accessed the events page");
         }
 
         ModelAndView mav = new ModelAndView("events/events");
 
-        Optional<User> currentUserOpt = Optional.ofNullable(principal)
-                .map(p -> userService.findByUsername(p.getName()))
-                .map(u -> userService.findById(u.getId()));
+        Optional<UserData> currentUserOpt = Optional.ofNullable(userData);
 
-        List<EventDTO> events = eventService.findUpcomingEvents()
+        List<EventDTO> events = eventService.getUpcomingEvents()
                 .stream()
                 .map(event -> {
-                    EventDTO eventDTO = eventService.mapToDTO(event);
+                    EventDTO eventDTO = event.toDTO();
 
                     currentUserOpt.ifPresent(currentUser -> {
-                        UUID creatorId = eventDTO.getCreator() != null ? eventDTO.getCreator().getId() : null;
-                        boolean hasSeats = eventDTO.getAvailableSeats() != null
-                                && eventDTO.getAvailableSeats() > 0;
-                        boolean canBook = hasSeats
-                                && (creatorId == null || !creatorId.equals(currentUser.getId()));
-                        eventDTO.setCanBook(canBook);
-
-                        boolean canEditDelete = eventSecurity.canEditOrDelete(
-                                event.getId(),
-                                currentUser.getId(),
+                        eventDTO.setCanBook(permissionEvaluator.canBook(event, currentUser.getUserId()));
+                        eventDTO.setCanEditDelete(permissionEvaluator.canEditOrDelete(
+                                event,
+                                currentUser.getUserId(),
                                 currentUser.getRole().name()
-                        );
-                        eventDTO.setCanEditDelete(canEditDelete);
-
+                        ));
                     });
-                    currentUserOpt.ifPresent(user -> mav.addObject("isAdmin", user.getRole() == Role.ADMIN));
 
                     return eventDTO;
                 })
                 .collect(Collectors.toList());
         mav.addObject("events", events);
 
+        currentUserOpt.ifPresent(user -> mav.addObject("isAdmin", user.getRole() == Role.ADMIN));
+
         currentUserOpt.ifPresent(user -> mav.addObject("currentUser", user));
 
         if (successMessage != null && !successMessage.isEmpty()) {
@@ -152,7 +143,6 @@ public class EventController {
             User user = userService.findByUsername(principal.getName());
 
             Event event = eventService.create(eventDTO, user);
-            analyticsClient.addEvent(eventService.mapToAnalytics(event));
             log.info("User {} created event '{}' with id {}", principal.getName(), event.getName(), event.getId());
             redirectAttributes.addFlashAttribute("successMessage", "Event created successfully!");
         } catch (IllegalArgumentException e) {
@@ -168,23 +158,18 @@ public class EventController {
     }
 
     @GetMapping("/{id}")
-    public ModelAndView eventDetails(@PathVariable UUID id, Principal principal) {
+    public ModelAndView eventDetails(@PathVariable UUID id, @AuthenticationPrincipal UserData userData) {
         log.info("Event details requested for id {}", id);
-        Event event = eventService.findById(id);
         ModelAndView mav = new ModelAndView("events/event-details");
 
-        EventDTO eventDTO = eventService.mapToDTO(event);
-
-        if (principal != null) {
-            User currentUser = userService.findByUsername(principal.getName());
+        EventDTO eventDTO = eventService.getSnapshot(id).toDTO();
 
+        if (userData != null) {
             UUID creatorId = Optional.ofNullable(eventDTO.getCreator())
                     .map(UserDTO::getId)
                     .orElse(null);
 
-            boolean canBook = creatorId == null || !creatorId.equals(currentUser.getId());
-            canBook = canBook && eventDTO.getAvailableSeats() != null && eventDTO.getAvailableSeats() > 0;
-            eventDTO.setCanBook(canBook);
+            eventDTO.setCanBook(permissionEvaluator.canBook(creatorId, eventDTO.getAvailableSeats(), userData.getUserId()));
         }
         mav.addObject("event", eventDTO);
         return mav;
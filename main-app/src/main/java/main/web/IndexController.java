@@ -4,7 +4,7 @@ import jakarta.validation.Valid;
 import main.entities.User;
 import main.exceptions.EmailRegisteredException;
 import main.exceptions.UsernameTakenException;
-import main.microservices.AnalyticsClient;
+import main.security.EventPermissionEvaluator;
 import main.security.UserData;
 import main.services.EventService;
 import main.services.UserService;
@@ -22,7 +22,6 @@ import org.springframework.web.servlet.ModelAndView;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.util.List;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Controller
@@ -30,13 +29,14 @@ public class IndexController {
 
     private final UserService userService;
     private final EventService eventService;
-    private final AnalyticsClient analyticsClient;
+    private final EventPermissionEvaluator permissionEvaluator;
 
     @Autowired
-    public IndexController(UserService userService, EventService eventService, AnalyticsClient analyticsClient) {
+    public IndexController(UserService userService, EventService eventService,
+                           EventPermissionEvaluator permissionEvaluator) {
         this.userService = userService;
         this.eventService = eventService;
-        this.analyticsClient = analyticsClient;
+        this.permissionEvaluator = permissionEvaluator;
     }
 
     @GetMapping("/")
@@ -75,7 +75,6 @@ public class IndexController {
 
         try {
             User user = userService.register(userDTO);
-            analyticsClient.addUser(userService.mapToAnalyticDTO(user));
         } catch (UsernameTakenException e) {
             bindingResult.rejectValue("username", "error.userDTO", "Username taken");
             return mav;
@@ -89,26 +88,17 @@ public class IndexController {
 
     @GetMapping("/home")
     public ModelAndView homePage(@AuthenticationPrincipal UserData userData) {
-        User user = userService.findById(userData.getUserId());
-
         ModelAndView modelAndView = new ModelAndView("home");
-        List<EventDTO> events = eventService.findUpcomingEvents()
+        List<EventDTO> events = eventService.getUpcomingEvents()
                 .stream()
+                .limit(5)
                 .map(event -> {
-                    EventDTO dto = eventService.mapToDTO(event);
-
-                    UUID creatorId = dto.getCreator() != null ? dto.getCreator().getId() : null;
-
-                    boolean canBook = dto.getAvailableSeats() != null
-                            && dto.getAvailableSeats() > 0
-                            && (creatorId == null || !creatorId.equals(user.getId()));
-                    dto.setCanBook(canBook);
-
+                    EventDTO dto = event.toDTO();
+                    dto.setCanBook(permissionEvaluator.canBook(event, userData.getUserId()));
                     return dto;
                 })
-                .limit(5)
                 .collect(Collectors.toList());
-        modelAndView.addObject("user", user);
+        modelAndView.addObject("user", userData);
         modelAndView.addObject("events", events);
         return modelAndView;
     }
@@ -17,6 +17,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.ModelAndView;
 import main.services.UserService;
 import main.web.dto.UserDTO;
+import main.web.dto.UserSnapshot;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.util.List;
@@ -35,20 +36,21 @@ public class ProfileController {
     @GetMapping("/profile")
     @PreAuthorize("isAuthenticated()")
     public ModelAndView viewProfile(@AuthenticationPrincipal UserData userData) {
-        User user = userService.findById(userData.getUserId());
+        UserSnapshot user = userService.getSnapshot(userData.getUserId());
+        User userReference = userService.getReference(user.id());
 
-        List<Event> createdEvents = eventService.findEventsByCreator(user);
-        List<Booking> bookings = bookingService.findByUser(user);
+        List<Event> createdEvents = eventService.findEventsByCreator(userReference);
+        List<Booking> bookings = bookingService.findByUser(userReference);
         ModelAndView mav = new ModelAndView("users/profile");
-        mav.addObject("user", user);
+        mav.addObject("user", user.toDTO());
         mav.addObject("createdEvents", createdEvents);
         mav.addObject("bookings", bookings);
-        mav.addObject("isAdmin", user.getRole() == Role.ADMIN);
+        mav.addObject("isAdmin", user.role() == Role.ADMIN);
 
-        if (user.getRole() == Role.ADMIN) {
+        if (user.role() == Role.ADMIN) {
             List<User> allUsers = userService.findAllUsers()
                     .stream()
-                    .filter(u -> !u.getId().equals(user.getId()))
+                    .filter(u -> !u.getId().equals(user.id()))
                     .collect(Collectors.toList());
 
             mav.addObject("allUsers", allUsers);
@@ -58,7 +60,7 @@ public class ProfileController {
 
     @GetMapping("profile/edit")
     public ModelAndView showEditProfile(@AuthenticationPrincipal UserData userData) {
-        UserDTO user = userService.mapToDTO(userService.findById(userData.getUserId()));
+        UserDTO user = userService.getSnapshot(userData.getUserId()).toDTO();
         if (user.getName() == null) user.setName("");
         if (user.getAge() == null) user.setAge(0);
         return new ModelAndView("users/edit-profile", "user", user);
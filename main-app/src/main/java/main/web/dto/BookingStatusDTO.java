@@ -0,0 +1,18 @@
+package main.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import main.entities.BookingStatus;
+import main.entities.FulfillmentStatus;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookingStatusDTO {
+    private UUID id;
+    private BookingStatus status;
+    private FulfillmentStatus fulfillmentStatus;
+}
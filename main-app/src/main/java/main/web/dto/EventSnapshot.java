@@ -0,0 +1,98 @@
+package main.web.dto;
+
+import main.entities.Event;
+import main.entities.Role;
+import main.entities.User;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Immutable, cache-friendly view of an event for the listing pages. Each request
+ * gets its own mutable {@link EventDTO} via {@link #toDTO()} to set per-user flags on.
+ */
+public record EventSnapshot(UUID id,
+                            String name,
+                            String description,
+                            LocalDateTime startDate,
+                            LocalDateTime endDate,
+                            String venue,
+                            String location,
+                            double price,
+                            int totalSeats,
+                            int availableSeats,
+                            Creator creator) implements Serializable {
+
+    public record Creator(UUID id,
+                          String username,
+                          String email,
+                          String role,
+                          String name,
+                          Integer age,
+                          LocalDateTime joinedAt) implements Serializable {
+
+        static Creator of(User user) {
+            return new Creator(user.getId(), user.getUsername(), user.getEmail(),
+                    user.getRole() != null ? user.getRole().name() : null,
+                    user.getName(), user.getAge(), user.getCreatedAt());
+        }
+
+        UserDTO toDTO() {
+            return new UserDTO(id, username, email, role, name, age, joinedAt);
+        }
+    }
+
+    /**
+     * Flat form used by the listing projection query, which selects the creator columns
+     * through a left join instead of loading the creator entity.
+     */
+    public EventSnapshot(UUID id, String name, String description, LocalDateTime startDate, LocalDateTime endDate,
+                         String venue, String location, double price, int totalSeats, int availableSeats,
+                         UUID creatorId, String creatorUsername, String creatorEmail, Role creatorRole,
+                         String creatorName, Integer creatorAge, LocalDateTime creatorJoinedAt) {
+        this(id, name, description, startDate, endDate, venue, location, price, totalSeats, availableSeats,
+                creatorId == null ? null : new Creator(creatorId, creatorUsername, creatorEmail,
+                        creatorRole != null ? creatorRole.name() : null, creatorName, creatorAge, creatorJoinedAt));
+    }
+
+    public static EventSnapshot of(Event event) {
+        return new EventSnapshot(
+                event.getId(),
+                event.getName(),
+                event.getDescription(),
+                event.getStartDate(),
+                event.getEndDate(),
+                event.getVenue(),
+                event.getLocation(),
+                event.getPrice(),
+                event.getTotalSeats(),
+                event.getAvailableSeats(),
+                event.getCreator() != null ? Creator.of(event.getCreator()) : null);
+    }
+
+    public UUID creatorId() {
+        return creator != null ? creator.id() : null;
+    }
+
+    public EventSnapshot withAvailableSeats(int seats) {
+        return new EventSnapshot(id, name, description, startDate, endDate, venue, location,
+                price, totalSeats, seats, creator);
+    }
+
+    public EventDTO toDTO() {
+        return EventDTO.builder()
+                .id(id)
+                .name(name)
+                .description(description)
+                .venue(venue)
+                .location(location)
+                .price(price)
+                .totalSeats(totalSeats)
+                .availableSeats(availableSeats)
+                .creator(creator != null ? creator.toDTO() : null)
+                .startDate(startDate)
+                .endDate(endDate)
+                .build();
+    }
+}
@@ -0,0 +1,21 @@
+package main.web.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * What the analytics microservice reports for a batch. {@code rejected} lists the
+ * invalid or failed items by their index in the request; when {@code truncated} is
+ * set, more items were rejected than it lists.
+ */
+@Data
+public class IngestionResponse {
+    private int received;
+    private Map<IngestionStatus, Integer> totals = new EnumMap<>(IngestionStatus.class);
+    private List<IngestionItemResult> rejected = new ArrayList<>();
+    private boolean truncated;
+}
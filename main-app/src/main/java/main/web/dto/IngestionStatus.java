@@ -0,0 +1,9 @@
+package main.web.dto;
+
+public enum IngestionStatus {
+    CREATED,
+    UPDATED,
+    DUPLICATE,
+    INVALID,
+    FAILED
+}
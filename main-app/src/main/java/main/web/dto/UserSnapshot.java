@@ -0,0 +1,38 @@
+package main.web.dto;
+
+import main.entities.Role;
+import main.entities.User;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Immutable, cache-friendly view of a user for display. It deliberately carries no
+ * password hash, since cached entries may be written to Redis.
+ */
+public record UserSnapshot(UUID id,
+                           String username,
+                           String email,
+                           Role role,
+                           String name,
+                           Integer age,
+                           boolean active,
+                           LocalDateTime createdAt) implements Serializable {
+
+    public static UserSnapshot of(User user) {
+        return new UserSnapshot(
+                user.getId(),
+                user.getUsername(),
+                user.getEmail(),
+                user.getRole(),
+                user.getName(),
+                user.getAge(),
+                Boolean.TRUE.equals(user.getActive()),
+                user.getCreatedAt());
+    }
+
+    public UserDTO toDTO() {
+        return new UserDTO(id, username, email, role != null ? role.name() : null, name, age, createdAt);
+    }
+}
@@ -0,0 +1,50 @@
+-- The schema as Hibernate's ddl-auto=update left it before Flyway was introduced. Existing
+-- databases are baselined at this version, so everything added since lives in later migrations.
+CREATE TABLE users
+(
+    id         BINARY(16)             NOT NULL,
+    name       VARCHAR(255),
+    age        INTEGER,
+    username   VARCHAR(255)           NOT NULL,
+    email      VARCHAR(255)           NOT NULL,
+    password   VARCHAR(255),
+    role       ENUM ('USER', 'ADMIN') NOT NULL,
+    active     BIT,
+    created_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE events
+(
+    id              BINARY(16)   NOT NULL,
+    name            VARCHAR(255) NOT NULL,
+    description     VARCHAR(500) NOT NULL,
+    start_date      DATETIME(6)  NOT NULL,
+    end_date        DATETIME(6)  NOT NULL,
+    venue           VARCHAR(255) NOT NULL,
+    location        VARCHAR(255) NOT NULL,
+    price           FLOAT(53)    NOT NULL,
+    total_seats     INTEGER      NOT NULL,
+    available_seats INTEGER      NOT NULL,
+    creator_id      BINARY(16),
+    archived        BIT          NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_events_creator FOREIGN KEY (creator_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE bookings
+(
+    id                     BINARY(16)                                  NOT NULL,
+    user_id                BINARY(16)                                  NOT NULL,
+    event_id               BINARY(16)                                  NOT NULL,
+    seats_booked           INTEGER                                     NOT NULL,
+    booked_on              DATETIME(6)                                 NOT NULL,
+    status                 ENUM ('PENDING', 'CONFIRMED', 'CANCELLED')  NOT NULL,
+    total_price            FLOAT(53)                                   NOT NULL,
+    qr_code_base64         LONGTEXT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_bookings_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_bookings_event FOREIGN KEY (event_id) REFERENCES events (id)
+) ENGINE = InnoDB;
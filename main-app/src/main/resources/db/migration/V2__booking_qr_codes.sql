@@ -0,0 +1,8 @@
+CREATE TABLE booking_qr_codes
+(
+    booking_id BINARY(16)  NOT NULL,
+    image      LONGBLOB    NOT NULL,
+    etag       VARCHAR(64) NOT NULL,
+    created_on DATETIME(6) NOT NULL,
+    PRIMARY KEY (booking_id)
+) ENGINE = InnoDB;
@@ -0,0 +1,10 @@
+CREATE TABLE analytics_outbox
+(
+    id           BIGINT                           NOT NULL AUTO_INCREMENT,
+    type         ENUM ('USER', 'EVENT', 'BOOKING') NOT NULL,
+    aggregate_id BINARY(16)                        NOT NULL,
+    payload      VARCHAR(2000)                     NOT NULL,
+    created_on   DATETIME(6)                       NOT NULL,
+    attempts     INTEGER                           NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,3 @@
+ALTER TABLE bookings
+    ADD COLUMN fulfillment_status     ENUM ('PENDING', 'PROCESSING', 'COMPLETED', 'FAILED'),
+    ADD COLUMN fulfillment_updated_on DATETIME(6);
@@ -0,0 +1,14 @@
+-- Upcoming listing: archived = false AND start_date > ?
+CREATE INDEX idx_events_archived_start_date ON events (archived, start_date);
+
+-- Expiry sweep: archived = false AND end_date < ?
+CREATE INDEX idx_events_archived_end_date ON events (archived, end_date);
+
+-- Profile page: bookings of one user, newest first. Also serves the user_id foreign key.
+CREATE INDEX idx_bookings_user_booked_on ON bookings (user_id, booked_on);
+
+-- Fulfillment retry sweep: fulfillment_status IN (...) AND fulfillment_updated_on < ?
+CREATE INDEX idx_bookings_fulfillment ON bookings (fulfillment_status, fulfillment_updated_on);
+
+-- Outbox relay: attempts < ? ORDER BY id
+CREATE INDEX idx_analytics_outbox_attempts ON analytics_outbox (attempts, id);
@@ -0,0 +1,12 @@
+-- Bookings made before V2 kept their QR code as base64 in bookings.qr_code_base64. Copy those
+-- images into booking_qr_codes, with the same SHA-256 ETag the application computes, then drop
+-- the old column.
+INSERT INTO booking_qr_codes (booking_id, image, etag, created_on)
+SELECT b.id, FROM_BASE64(b.qr_code_base64), SHA2(FROM_BASE64(b.qr_code_base64), 256), b.booked_on
+FROM bookings b
+WHERE b.qr_code_base64 IS NOT NULL
+  AND b.qr_code_base64 <> ''
+  AND NOT EXISTS (SELECT 1 FROM booking_qr_codes q WHERE q.booking_id = b.id);
+
+ALTER TABLE bookings
+    DROP COLUMN qr_code_base64;
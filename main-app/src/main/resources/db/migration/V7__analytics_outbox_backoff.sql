@@ -0,0 +1,12 @@
+-- Failed outbox messages wait before the next try, backing off exponentially per message.
+ALTER TABLE analytics_outbox
+    ADD COLUMN next_attempt_at DATETIME(6) NULL;
+
+UPDATE analytics_outbox
+SET next_attempt_at = created_on;
+
+ALTER TABLE analytics_outbox
+    MODIFY next_attempt_at DATETIME(6) NOT NULL;
+
+-- Outbox relay: next_attempt_at <= ? AND attempts < ?
+CREATE INDEX idx_analytics_outbox_next_attempt ON analytics_outbox (next_attempt_at, attempts);
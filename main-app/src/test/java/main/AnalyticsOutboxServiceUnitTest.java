@@ -0,0 +1,211 @@
+package main;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import main.entities.AnalyticsMessageType;
+import main.entities.AnalyticsOutboxMessage;
+import main.microservices.AnalyticsClient;
+import main.repositories.AnalyticsOutboxRepository;
+import main.services.AnalyticsOutboxService;
+import main.web.dto.BookingAnalyticsDTO;
+import main.web.dto.EventAnalyticsDTO;
+import main.web.dto.IngestionItemResult;
+import main.web.dto.IngestionResponse;
+import main.web.dto.IngestionStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AnalyticsOutboxServiceUnitTest {
+
+    @Mock
+    private AnalyticsOutboxRepository outboxRepository;
+
+    @Mock
+    private AnalyticsClient analyticsClient;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AnalyticsOutboxService analyticsOutboxService;
+
+    @BeforeEach
+    void setup() {
+        analyticsOutboxService = new AnalyticsOutboxService(outboxRepository, analyticsClient, objectMapper, meterRegistry);
+    }
+
+    @Test
+    void testRelayPending_SendsBatchesPerTypeAndDeletesThem() throws Exception {
+        EventAnalyticsDTO event = new EventAnalyticsDTO(UUID.randomUUID(), "Concert", 100, 20.0);
+        BookingAnalyticsDTO booking = new BookingAnalyticsDTO(UUID.randomUUID(), event.getId(), UUID.randomUUID(), 2, 40.0);
+
+        Mockito.when(outboxRepository.findByAttemptsLessThanAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                Mockito.anyInt(), Mockito.any(LocalDateTime.class), Mockito.any(Pageable.class)))
+                .thenReturn(List.of(
+                        message(1L, AnalyticsMessageType.EVENT, event.getId(), objectMapper.writeValueAsString(event)),
+                        message(2L, AnalyticsMessageType.BOOKING, booking.getId(), objectMapper.writeValueAsString(booking))));
+
+        analyticsOutboxService.relayPending();
+
+        Mockito.verify(analyticsClient).addEvents(List.of(event));
+        Mockito.verify(analyticsClient).confirmBookings(List.of(booking));
+        Mockito.verify(outboxRepository).deleteAllByIdInBatch(List.of(1L));
+        Mockito.verify(outboxRepository).deleteAllByIdInBatch(List.of(2L));
+        Mockito.verify(outboxRepository, Mockito.times(1))
+                .findByAttemptsLessThanAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                Mockito.anyInt(), Mockito.any(LocalDateTime.class), Mockito.any(Pageable.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRelayPending_MicroserviceDown_KeepsMessagesForRetry() throws Exception {
+        EventAnalyticsDTO event = new EventAnalyticsDTO(UUID.randomUUID(), "Concert", 100, 20.0);
+
+        Mockito.when(outboxRepository.findByAttemptsLessThanAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                Mockito.anyInt(), Mockito.any(LocalDateTime.class), Mockito.any(Pageable.class)))
+                .thenReturn(List.of(message(7L, AnalyticsMessageType.EVENT, event.getId(), objectMapper.writeValueAsString(event))));
+        Mockito.doThrow(new RuntimeException("connection refused"))
+                .when(analyticsClient).addEvents(Mockito.anyList());
+
+        analyticsOutboxService.relayPending();
+
+        ArgumentCaptor<Collection<Long>> ids = ArgumentCaptor.forClass(Collection.class);
+        Mockito.verify(outboxRepository).incrementAttempts(ids.capture(), Mockito.any(LocalDateTime.class));
+        assertEquals(List.of(7L), List.copyOf(ids.getValue()));
+        Mockito.verify(outboxRepository, Mockito.never()).deleteAllByIdInBatch(Mockito.any());
+        assertEquals(0, meterRegistry.counter("analytics.outbox.dead.lettered").count());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRelayPending_SomeItemsRejected_DeletesOnlyTheAcceptedOnes() throws Exception {
+        EventAnalyticsDTO accepted = new EventAnalyticsDTO(UUID.randomUUID(), "Concert", 100, 20.0);
+        EventAnalyticsDTO invalid = new EventAnalyticsDTO(UUID.randomUUID(), "", 100, 20.0);
+        IngestionResponse response = new IngestionResponse();
+        response.getRejected().add(new IngestionItemResult(1, invalid.getId(), IngestionStatus.INVALID, "name is blank"));
+
+        Mockito.when(outboxRepository.findByAttemptsLessThanAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                Mockito.anyInt(), Mockito.any(LocalDateTime.class), Mockito.any(Pageable.class)))
+                .thenReturn(List.of(
+                        message(3L, AnalyticsMessageType.EVENT, accepted.getId(), objectMapper.writeValueAsString(accepted)),
+                        message(4L, AnalyticsMessageType.EVENT, invalid.getId(), objectMapper.writeValueAsString(invalid))));
+        Mockito.when(analyticsClient.addEvents(Mockito.anyList())).thenReturn(response);
+
+        analyticsOutboxService.relayPending();
+
+        Mockito.verify(outboxRepository).deleteAllByIdInBatch(List.of(3L));
+        ArgumentCaptor<Collection<Long>> ids = ArgumentCaptor.forClass(Collection.class);
+        Mockito.verify(outboxRepository).incrementAttempts(ids.capture(), Mockito.any(LocalDateTime.class));
+        assertEquals(List.of(4L), List.copyOf(ids.getValue()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRelayPending_TruncatedResponse_RetriesTheWholeBatch() throws Exception {
+        EventAnalyticsDTO event = new EventAnalyticsDTO(UUID.randomUUID(), "Concert", 100, 20.0);
+        IngestionResponse response = new IngestionResponse();
+        response.setTruncated(true);
+
+        Mockito.when(outboxRepository.findByAttemptsLessThanAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                Mockito.anyInt(), Mockito.any(LocalDateTime.class), Mockito.any(Pageable.class)))
+                .thenReturn(List.of(
+                        message(5L, AnalyticsMessageType.EVENT, event.getId(), objectMapper.writeValueAsString(event)),
+                        message(6L, AnalyticsMessageType.EVENT, event.getId(), objectMapper.writeValueAsString(event))));
+        Mockito.when(analyticsClient.addEvents(Mockito.anyList())).thenReturn(response);
+
+        analyticsOutboxService.relayPending();
+
+        ArgumentCaptor<Collection<Long>> ids = ArgumentCaptor.forClass(Collection.class);
+        Mockito.verify(outboxRepository).incrementAttempts(ids.capture(), Mockito.any(LocalDateTime.class));
+        assertEquals(List.of(5L, 6L), List.copyOf(ids.getValue()));
+        Mockito.verify(outboxRepository, Mockito.never()).deleteAllByIdInBatch(Mockito.any());
+    }
+
+    @Test
+    void testRelayPending_LastAttemptFails_CountsMessageAsDead() throws Exception {
+        EventAnalyticsDTO event = new EventAnalyticsDTO(UUID.randomUUID(), "Concert", 100, 20.0);
+        AnalyticsOutboxMessage lastTry = message(8L, AnalyticsMessageType.EVENT, event.getId(), objectMapper.writeValueAsString(event));
+        lastTry.setAttempts(19);
+        AnalyticsOutboxMessage fresh = message(9L, AnalyticsMessageType.EVENT, event.getId(), objectMapper.writeValueAsString(event));
+
+        Mockito.when(outboxRepository.findByAttemptsLessThanAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                Mockito.anyInt(), Mockito.any(LocalDateTime.class), Mockito.any(Pageable.class)))
+                .thenReturn(List.of(lastTry, fresh));
+        Mockito.doThrow(new RuntimeException("connection refused"))
+                .when(analyticsClient).addEvents(Mockito.anyList());
+
+        analyticsOutboxService.relayPending();
+
+        assertEquals(1, meterRegistry.counter("analytics.outbox.dead.lettered").count());
+    }
+
+    @Test
+    void testRelayPending_Failure_BacksOffExponentiallyPerMessage() throws Exception {
+        EventAnalyticsDTO event = new EventAnalyticsDTO(UUID.randomUUID(), "Concert", 100, 20.0);
+        AnalyticsOutboxMessage firstTry = message(10L, AnalyticsMessageType.EVENT, event.getId(), objectMapper.writeValueAsString(event));
+        AnalyticsOutboxMessage fourthTry = message(11L, AnalyticsMessageType.EVENT, event.getId(), objectMapper.writeValueAsString(event));
+        fourthTry.setAttempts(3);
+
+        Mockito.when(outboxRepository.findByAttemptsLessThanAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                        Mockito.anyInt(), Mockito.any(LocalDateTime.class), Mockito.any(Pageable.class)))
+                .thenReturn(List.of(firstTry, fourthTry));
+        Mockito.doThrow(new RuntimeException("connection refused"))
+                .when(analyticsClient).addEvents(Mockito.anyList());
+
+        LocalDateTime before = LocalDateTime.now();
+        analyticsOutboxService.relayPending();
+
+        ArgumentCaptor<LocalDateTime> firstRetry = ArgumentCaptor.forClass(LocalDateTime.class);
+        Mockito.verify(outboxRepository).incrementAttempts(Mockito.eq(List.of(10L)), firstRetry.capture());
+        ArgumentCaptor<LocalDateTime> fourthRetry = ArgumentCaptor.forClass(LocalDateTime.class);
+        Mockito.verify(outboxRepository).incrementAttempts(Mockito.eq(List.of(11L)), fourthRetry.capture());
+        assertEquals(5, Duration.between(before, firstRetry.getValue()).toSeconds());
+        assertEquals(40, Duration.between(before, fourthRetry.getValue()).toSeconds());
+    }
+
+    @Test
+    void testDeadMessages_CanBeCountedRedrivenAndPurged() {
+        Mockito.when(outboxRepository.countByAttemptsGreaterThanEqual(20)).thenReturn(3L);
+        Mockito.when(outboxRepository.resetAttemptsFrom(Mockito.eq(20), Mockito.any(LocalDateTime.class))).thenReturn(3);
+        Mockito.when(outboxRepository.deleteByAttemptsFrom(20)).thenReturn(2);
+
+        assertEquals(3.0, meterRegistry.get("analytics.outbox.dead").gauge().value());
+        assertEquals(3, analyticsOutboxService.redriveDead());
+        assertEquals(2, analyticsOutboxService.purgeDead());
+    }
+
+    @Test
+    void testRelayPending_EmptyOutbox_DoesNothing() {
+        Mockito.when(outboxRepository.findByAttemptsLessThanAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                Mockito.anyInt(), Mockito.any(LocalDateTime.class), Mockito.any(Pageable.class)))
+                .thenReturn(List.of());
+
+        analyticsOutboxService.relayPending();
+
+        Mockito.verifyNoInteractions(analyticsClient);
+    }
+
+    private static AnalyticsOutboxMessage message(Long id, AnalyticsMessageType type, UUID aggregateId, String payload) {
+        return AnalyticsOutboxMessage.builder()
+                .id(id)
+                .type(type)
+                .aggregateId(aggregateId)
+                .payload(payload)
+                .createdOn(LocalDateTime.now())
+                .build();
+    }
+}
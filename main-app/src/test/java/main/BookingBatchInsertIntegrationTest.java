@@ -0,0 +1,136 @@
+package main;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.transaction.Transactional;
+import main.entities.Booking;
+import main.entities.BookingStatus;
+import main.entities.Event;
+import main.entities.Role;
+import main.entities.User;
+import main.repositories.UserRepository;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles({"test", "prod"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+public class BookingBatchInsertIntegrationTest {
+
+    private static final int EVENTS = 4;
+    private static final int BOOKINGS_PER_EVENT = 30;
+
+    @BeforeAll
+    static void requireMySql() {
+        MySqlTestDatabase.assumeConfigured();
+    }
+
+    @DynamicPropertySource
+    static void mySqlProperties(DynamicPropertyRegistry registry) {
+        MySqlTestDatabase.register(registry);
+    }
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    private int batchSize;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User user;
+
+    @BeforeEach
+    void setup() {
+        user = userRepository.save(User.builder()
+                .username("batch-booker")
+                .email("batch-booker@test.com")
+                .password("password123")
+                .role(Role.USER)
+                .active(true)
+                .build());
+        entityManager.flush();
+    }
+
+    @Test
+    void manyBookings_areInsertedInJdbcBatches() {
+        Statistics statistics = statistics();
+
+        persistEventsWithBookings();
+        entityManager.flush();
+
+        // Ordered inserts regroup the interleaved rows: one batch of events, then bookings in batch_size chunks.
+        int bookings = EVENTS * BOOKINGS_PER_EVENT;
+        long batches = 1 + (bookings + batchSize - 1) / batchSize;
+        assertEquals(EVENTS + bookings, statistics.getEntityInsertCount());
+        assertEquals(batches, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void withoutBatching_everyInsertIsItsOwnStatement() {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(1);
+        Statistics statistics = statistics();
+
+        persistEventsWithBookings();
+        entityManager.flush();
+
+        assertEquals(EVENTS + EVENTS * BOOKINGS_PER_EVENT, statistics.getPrepareStatementCount());
+    }
+
+    private void persistEventsWithBookings() {
+        LocalDateTime start = LocalDateTime.now().plusDays(7);
+        for (int i = 0; i < EVENTS; i++) {
+            Event event = Event.builder()
+                    .name("Batch event " + i)
+                    .description("Batch insert event " + i)
+                    .venue("Venue")
+                    .location("City")
+                    .price(20.0)
+                    .totalSeats(1000)
+                    .availableSeats(1000 - BOOKINGS_PER_EVENT)
+                    .startDate(start.plusDays(i))
+                    .endDate(start.plusDays(i).plusHours(3))
+                    .build();
+            entityManager.persist(event);
+
+            for (int j = 0; j < BOOKINGS_PER_EVENT; j++) {
+                entityManager.persist(Booking.builder()
+                        .user(user)
+                        .event(event)
+                        .seatsBooked(1)
+                        .totalPrice(20.0)
+                        .bookedOn(LocalDateTime.now())
+                        .status(BookingStatus.CONFIRMED)
+                        .build());
+            }
+        }
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
@@ -0,0 +1,135 @@
+package main;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.transaction.Transactional;
+import main.entities.Booking;
+import main.entities.BookingStatus;
+import main.entities.Event;
+import main.entities.Role;
+import main.entities.User;
+import main.repositories.BookingRepository;
+import main.repositories.EventRepository;
+import main.repositories.UserRepository;
+import main.services.BookingService;
+import main.web.dto.BookingAnalyticsDTO;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class BookingFetchIntegrationTest {
+
+    private static final int BOOKINGS = 5;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User user;
+    private Booking booking;
+
+    @BeforeEach
+    void setup() {
+        user = userRepository.save(User.builder()
+                .username("booker")
+                .email("booker@test.com")
+                .password("password123")
+                .role(Role.USER)
+                .active(true)
+                .build());
+
+        for (int i = 0; i < BOOKINGS; i++) {
+            Event event = eventRepository.save(Event.builder()
+                    .name("Event " + i)
+                    .description("Description of event " + i)
+                    .venue("Venue")
+                    .location("City")
+                    .price(10.0)
+                    .totalSeats(100)
+                    .availableSeats(100)
+                    .startDate(LocalDateTime.now().plusDays(1))
+                    .endDate(LocalDateTime.now().plusDays(2))
+                    .build());
+            booking = bookingRepository.save(Booking.builder()
+                    .user(user)
+                    .event(event)
+                    .seatsBooked(1)
+                    .totalPrice(10.0)
+                    .bookedOn(LocalDateTime.now().minusMinutes(i))
+                    .status(BookingStatus.PENDING)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void profileBookings_loadEventsInOneQuery() {
+        Statistics statistics = statistics();
+
+        List<Booking> bookings = bookingService.findByUser(userRepository.getReferenceById(user.getId()));
+        bookings.forEach(b -> assertNotNull(b.getEvent().getName()));
+
+        assertEquals(BOOKINGS, bookings.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void analyticsExport_loadsNoEntities() {
+        Statistics statistics = statistics();
+
+        List<BookingAnalyticsDTO> bookings = bookingService.getAllBookings();
+
+        assertEquals(BOOKINGS, bookings.size());
+        assertTrue(bookings.stream().allMatch(b -> user.getId().equals(b.getUserId())));
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void bookingPage_loadsEventAndUserInOneQuery() {
+        Statistics statistics = statistics();
+
+        Booking loaded = bookingService.getBooking(booking.getId());
+
+        assertEquals("booker@test.com", loaded.getUser().getEmail());
+        assertNotNull(loaded.getEvent().getName());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
@@ -0,0 +1,155 @@
+package main;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import main.entities.*;
+import main.repositories.BookingQrCodeRepository;
+import main.repositories.BookingRepository;
+import main.services.BookingFulfillmentService;
+import main.services.PdfService;
+import main.services.QRCodeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BookingFulfillmentServiceUnitTest {
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private BookingQrCodeRepository bookingQrCodeRepository;
+
+    @Mock
+    private QRCodeService qrCodeService;
+
+    @Mock
+    private PdfService pdfService;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Runnable> submitted = new ArrayList<>();
+
+    private BookingFulfillmentService bookingFulfillmentService;
+    private Booking booking;
+
+    @BeforeEach
+    void setup() {
+        bookingFulfillmentService = new BookingFulfillmentService(bookingRepository, bookingQrCodeRepository,
+                qrCodeService, pdfService, meterRegistry, submitted::add, 2);
+
+        User user = new User();
+        user.setId(UUID.randomUUID());
+
+        Event event = new Event();
+        event.setId(UUID.randomUUID());
+        event.setName("Concert");
+        event.setStartDate(LocalDateTime.now().plusDays(1));
+        event.setEndDate(LocalDateTime.now().plusDays(2));
+
+        booking = Booking.builder()
+                .id(UUID.randomUUID())
+                .user(user)
+                .event(event)
+                .seatsBooked(2)
+                .totalPrice(100.0)
+                .status(BookingStatus.CONFIRMED)
+                .fulfillmentStatus(FulfillmentStatus.PENDING)
+                .build();
+    }
+
+    @Test
+    void testFulfil_RunsAllStagesAndCompletes() {
+        Mockito.when(bookingRepository.findWithEventAndUserById(booking.getId())).thenReturn(Optional.of(booking));
+        Mockito.when(qrCodeService.generateQRCodePng(Mockito.anyString())).thenReturn(new byte[]{1, 2, 3});
+
+        bookingFulfillmentService.fulfil(booking.getId());
+
+        ArgumentCaptor<BookingQrCode> qrCode = ArgumentCaptor.forClass(BookingQrCode.class);
+        Mockito.verify(bookingQrCodeRepository).save(qrCode.capture());
+        assertArrayEquals(new byte[]{1, 2, 3}, qrCode.getValue().getImage());
+        assertEquals(64, qrCode.getValue().getEtag().length());
+
+        Mockito.verify(pdfService).warmCache(booking);
+
+        Mockito.verify(bookingRepository).updateFulfillmentStatus(
+                Mockito.eq(booking.getId()), Mockito.eq(FulfillmentStatus.COMPLETED), Mockito.any());
+        assertEquals(1, meterRegistry.timer("bookings.fulfillment", "status", "completed").count());
+    }
+
+    @Test
+    void testFulfil_RetriesTransientFailure() {
+        Mockito.when(bookingRepository.findWithEventAndUserById(booking.getId())).thenReturn(Optional.of(booking));
+        Mockito.when(bookingQrCodeRepository.existsById(booking.getId())).thenReturn(true);
+        Mockito.doThrow(new RuntimeException("disk full"))
+                .doNothing()
+                .when(pdfService).warmCache(booking);
+
+        bookingFulfillmentService.fulfil(booking.getId());
+
+        Mockito.verify(pdfService, Mockito.times(2)).warmCache(booking);
+        Mockito.verify(qrCodeService, Mockito.never()).generateQRCodePng(Mockito.anyString());
+        Mockito.verify(bookingRepository).updateFulfillmentStatus(
+                Mockito.eq(booking.getId()), Mockito.eq(FulfillmentStatus.COMPLETED), Mockito.any());
+    }
+
+    @Test
+    void testFulfil_GivesUpAfterMaxAttempts() {
+        Mockito.when(bookingRepository.findWithEventAndUserById(booking.getId())).thenReturn(Optional.of(booking));
+        Mockito.when(bookingQrCodeRepository.existsById(booking.getId())).thenReturn(true);
+        Mockito.doThrow(new RuntimeException("disk full"))
+                .when(pdfService).warmCache(booking);
+
+        bookingFulfillmentService.fulfil(booking.getId());
+
+        Mockito.verify(pdfService, Mockito.times(3)).warmCache(booking);
+        Mockito.verify(bookingRepository).updateFulfillmentStatus(
+                Mockito.eq(booking.getId()), Mockito.eq(FulfillmentStatus.FAILED), Mockito.any());
+        assertEquals(3, meterRegistry.counter("bookings.fulfillment.stage.failures", "stage", "pdf").count());
+        assertEquals(1, meterRegistry.timer("bookings.fulfillment", "status", "failed").count());
+    }
+
+    @Test
+    void testFulfil_NotConfirmed_Skipped() {
+        booking.setStatus(BookingStatus.CANCELLED);
+        Mockito.when(bookingRepository.findWithEventAndUserById(booking.getId())).thenReturn(Optional.of(booking));
+
+        bookingFulfillmentService.fulfil(booking.getId());
+
+        Mockito.verifyNoInteractions(qrCodeService, pdfService);
+        Mockito.verify(bookingRepository, Mockito.never())
+                .updateFulfillmentStatus(Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    void testRetryStalled_SubmitsStalledBookingsToTheExecutor() {
+        Mockito.when(bookingRepository.findIdsByFulfillmentStatusUpdatedBefore(
+                        Mockito.anyCollection(), Mockito.any(), Mockito.eq(Limit.of(2))))
+                .thenReturn(List.of(booking.getId()));
+        Mockito.when(bookingRepository.findWithEventAndUserById(booking.getId())).thenReturn(Optional.of(booking));
+        Mockito.when(bookingQrCodeRepository.existsById(booking.getId())).thenReturn(true);
+
+        bookingFulfillmentService.retryStalled();
+
+        assertEquals(1, submitted.size());
+        Mockito.verifyNoInteractions(pdfService);
+
+        submitted.get(0).run();
+
+        Mockito.verify(pdfService).warmCache(booking);
+        assertEquals(1, meterRegistry.counter("bookings.fulfillment.stalled").count());
+    }
+}
@@ -1,14 +1,20 @@
 package main;
 
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import main.entities.*;
 import main.exceptions.BookingAlreadyCancelledException;
 import main.exceptions.BookingAlreadyConfirmedException;
 import main.exceptions.NoAvailableSeatsException;
 import main.exceptions.NotFoundBookingException;
+import main.repositories.BookingQrCodeRepository;
 import main.repositories.BookingRepository;
+import main.services.AnalyticsOutboxService;
+import main.services.BookingConfirmedEvent;
 import main.services.BookingService;
 import main.services.EventService;
-import main.services.QRCodeService;
+import main.services.SeatInventoryService;
 import main.web.dto.BookingAnalyticsDTO;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,7 +22,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.*;
 
@@ -31,11 +40,23 @@ public class BookingServiceUnitTest {
     @Mock
     private BookingRepository bookingRepository;
 
+    @Mock
+    private BookingQrCodeRepository bookingQrCodeRepository;
+
     @Mock
     private EventService eventService;
 
     @Mock
-    private QRCodeService qrCodeService;
+    private SeatInventoryService seatInventoryService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private AnalyticsOutboxService analyticsOutboxService;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
 
     private User user;
     private Event event;
@@ -82,7 +103,10 @@ public class BookingServiceUnitTest {
         event.setAvailableSeats(1);
 
         assertThrows(NoAvailableSeatsException.class,
-                () -> bookingService.createBooking(user, event, 2));
+                () -> timed(bookingService).createBooking(user, event, 2));
+        assertEquals(1, meterRegistry.counter("bookings.seats.rejected", "operation", "create").count());
+        assertEquals(1, meterRegistry.get("bookings.operations")
+                .tags("operation", "create", "exception", "NoAvailableSeatsException").timer().count());
     }
 
     @Test
@@ -90,28 +114,31 @@ public class BookingServiceUnitTest {
         booking.setStatus(BookingStatus.PENDING);
         event.setAvailableSeats(100);
 
-        Mockito.when(bookingRepository.findById(booking.getId()))
+        Mockito.when(bookingRepository.findWithEventAndUserById(booking.getId()))
                 .thenReturn(Optional.of(booking));
-        Mockito.when(qrCodeService.generateQRCodeBase64(Mockito.anyString()))
-                .thenReturn("QRCodeBase64");
+        Mockito.when(seatInventoryService.reserve(event, 2))
+                .thenReturn(true);
 
-        Booking confirmed = bookingService.confirmBooking(booking.getId());
+        Booking confirmed = timed(bookingService).confirmBooking(booking.getId());
 
         assertEquals(BookingStatus.CONFIRMED, confirmed.getStatus());
-        assertEquals("QRCodeBase64", confirmed.getQrCodeBase64());
+        assertEquals(FulfillmentStatus.PENDING, confirmed.getFulfillmentStatus());
+        Mockito.verify(analyticsOutboxService).enqueueBooking(booking);
+        Mockito.verify(eventPublisher).publishEvent(new BookingConfirmedEvent(booking.getId()));
+        Mockito.verifyNoInteractions(bookingQrCodeRepository);
         assertEquals(event.getPrice() * booking.getSeatsBooked(), confirmed.getTotalPrice());
 
-        int expectedAvailableSeats = 98;
-        assertEquals(expectedAvailableSeats, event.getAvailableSeats());
-
-        Mockito.verify(eventService).update(event);
+        Mockito.verify(seatInventoryService).reserve(event, 2);
+        Mockito.verify(eventService, Mockito.never()).update(Mockito.any(Event.class));
+        assertEquals(1, meterRegistry.get("bookings.operations")
+                .tags("operation", "confirm", "exception", "none").timer().count());
     }
 
     @Test
     void testConfirmBooking_AlreadyConfirmed() {
         booking.setStatus(BookingStatus.CONFIRMED);
 
-        Mockito.when(bookingRepository.findById(booking.getId()))
+        Mockito.when(bookingRepository.findWithEventAndUserById(booking.getId()))
                 .thenReturn(Optional.of(booking));
 
         assertThrows(BookingAlreadyConfirmedException.class,
@@ -124,17 +151,21 @@ public class BookingServiceUnitTest {
         event.setAvailableSeats(1);
         booking.setSeatsBooked(5);
 
-        Mockito.when(bookingRepository.findById(booking.getId()))
+        Mockito.when(bookingRepository.findWithEventAndUserById(booking.getId()))
                 .thenReturn(Optional.of(booking));
+        Mockito.when(seatInventoryService.reserve(event, 5))
+                .thenReturn(false);
 
         assertThrows(IllegalStateException.class,
                 () -> bookingService.confirmBooking(booking.getId()));
+        assertEquals(BookingStatus.PENDING, booking.getStatus());
+        assertEquals(1, meterRegistry.counter("bookings.seats.rejected", "operation", "confirm").count());
     }
 
     @Test
     void testConfirmBooking_NotFound() {
         UUID id = UUID.randomUUID();
-        Mockito.when(bookingRepository.findById(id))
+        Mockito.when(bookingRepository.findWithEventAndUserById(id))
                 .thenReturn(Optional.empty());
 
         assertThrows(NotFoundBookingException.class,
@@ -145,19 +176,33 @@ public class BookingServiceUnitTest {
     void testCancelBooking_Success() {
         booking.setStatus(BookingStatus.PENDING);
 
-        Mockito.when(bookingRepository.findById(booking.getId()))
+        Mockito.when(bookingRepository.findWithEventById(booking.getId()))
+                .thenReturn(Optional.of(booking));
+
+        Booking cancelled = bookingService.cancelBooking(booking.getId());
+
+        assertEquals(BookingStatus.CANCELLED, cancelled.getStatus());
+        Mockito.verifyNoInteractions(seatInventoryService);
+    }
+
+    @Test
+    void testCancelBooking_Confirmed_ReleasesSeats() {
+        booking.setStatus(BookingStatus.CONFIRMED);
+
+        Mockito.when(bookingRepository.findWithEventById(booking.getId()))
                 .thenReturn(Optional.of(booking));
 
         Booking cancelled = bookingService.cancelBooking(booking.getId());
 
         assertEquals(BookingStatus.CANCELLED, cancelled.getStatus());
+        Mockito.verify(seatInventoryService).release(event, 2);
     }
 
     @Test
     void testCancelBooking_AlreadyCancelled() {
         booking.setStatus(BookingStatus.CANCELLED);
 
-        Mockito.when(bookingRepository.findById(booking.getId()))
+        Mockito.when(bookingRepository.findWithEventById(booking.getId()))
                 .thenReturn(Optional.of(booking));
 
         assertThrows(BookingAlreadyCancelledException.class,
@@ -167,7 +212,7 @@ public class BookingServiceUnitTest {
     @Test
     void testCancelBooking_NotFound() {
         UUID id = UUID.randomUUID();
-        Mockito.when(bookingRepository.findById(id))
+        Mockito.when(bookingRepository.findWithEventById(id))
                 .thenReturn(Optional.empty());
 
         assertThrows(NotFoundBookingException.class,
@@ -176,7 +221,7 @@ public class BookingServiceUnitTest {
 
     @Test
     void testFindByUser() {
-        Mockito.when(bookingRepository.findByUser(user))
+        Mockito.when(bookingRepository.findByUserOrderByBookedOnDesc(user))
                 .thenReturn(Collections.singletonList(booking));
 
         List<Booking> list = bookingService.findByUser(user);
@@ -197,7 +242,7 @@ public class BookingServiceUnitTest {
 
     @Test
     void testGetBooking_Success() {
-        Mockito.when(bookingRepository.findById(booking.getId()))
+        Mockito.when(bookingRepository.findWithEventAndUserById(booking.getId()))
                 .thenReturn(Optional.of(booking));
 
         Booking b = bookingService.getBooking(booking.getId());
@@ -207,17 +252,29 @@ public class BookingServiceUnitTest {
     @Test
     void testGetBooking_NotFound() {
         UUID id = UUID.randomUUID();
-        Mockito.when(bookingRepository.findById(id))
+        Mockito.when(bookingRepository.findWithEventAndUserById(id))
                 .thenReturn(Optional.empty());
 
         assertThrows(NotFoundBookingException.class,
                 () -> bookingService.getBooking(id));
     }
 
+    @Test
+    void testGetQrCodeEtag_NotFound() {
+        UUID id = UUID.randomUUID();
+        Mockito.when(bookingQrCodeRepository.findEtagByBookingId(id))
+                .thenReturn(Optional.empty());
+
+        assertThrows(NotFoundBookingException.class,
+                () -> bookingService.getQrCodeEtag(id));
+    }
+
     @Test
     void testGetAllBookings() {
-        Mockito.when(bookingRepository.findAll())
-                .thenReturn(Collections.singletonList(booking));
+        BookingAnalyticsDTO row = new BookingAnalyticsDTO(booking.getId(), event.getId(), user.getId(),
+                booking.getSeatsBooked(), booking.getTotalPrice());
+        Mockito.when(bookingRepository.findAllAnalytics())
+                .thenReturn(Collections.singletonList(row));
 
         List<BookingAnalyticsDTO> dtos = bookingService.getAllBookings();
 
@@ -225,5 +282,32 @@ public class BookingServiceUnitTest {
         assertEquals(booking.getId(), dtos.get(0).getId());
         assertEquals(booking.getSeatsBooked(), dtos.get(0).getSeatsBooked());
         assertEquals(booking.getTotalPrice(), dtos.get(0).getPrice());
+        Mockito.verify(bookingRepository, Mockito.never()).findAll();
+    }
+
+    @Test
+    void testMapToDTO() {
+        BookingAnalyticsDTO dto = bookingService.mapToDTO(booking);
+
+        assertEquals(booking.getId(), dto.getId());
+        assertEquals(event.getId(), dto.getEventId());
+        assertEquals(user.getId(), dto.getUserId());
+    }
+
+    @Test
+    void testGetStatus_NotFound() {
+        UUID id = UUID.randomUUID();
+        Mockito.when(bookingRepository.findStatusById(id))
+                .thenReturn(Optional.empty());
+
+        assertThrows(NotFoundBookingException.class,
+                () -> bookingService.getStatus(id));
+    }
+
+    private BookingService timed(BookingService target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new TimedAspect(meterRegistry));
+        return factory.getProxy();
     }
 }
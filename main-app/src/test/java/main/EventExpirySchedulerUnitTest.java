@@ -0,0 +1,96 @@
+package main;
+
+import main.repositories.EventRepository;
+import main.services.EventExpiryScheduler;
+import main.services.ExpiredEventArchiver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EventExpirySchedulerUnitTest {
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @Mock
+    private ExpiredEventArchiver expiredEventArchiver;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private EventExpiryScheduler eventExpiryScheduler;
+
+    @BeforeEach
+    void setup() {
+        eventExpiryScheduler = new EventExpiryScheduler(taskScheduler, expiredEventArchiver,
+                eventRepository, Duration.ofHours(2));
+        Mockito.lenient().when(taskScheduler.schedule(Mockito.any(Runnable.class), Mockito.any(Instant.class)))
+                .thenAnswer(i -> Mockito.mock(ScheduledFuture.class));
+    }
+
+    @Test
+    void testRegister_SchedulesTickJustAfterEndDate() {
+        LocalDateTime endDate = LocalDateTime.now().plusMinutes(10).withNano(0);
+
+        eventExpiryScheduler.register(endDate);
+
+        ArgumentCaptor<Instant> tick = ArgumentCaptor.forClass(Instant.class);
+        Mockito.verify(taskScheduler).schedule(Mockito.any(Runnable.class), tick.capture());
+        assertEquals(endDate.atZone(ZoneId.systemDefault()).toInstant().plusSeconds(1), tick.getValue());
+    }
+
+    @Test
+    void testRegister_CoalescesEndDatesInTheSameSecond() {
+        LocalDateTime endDate = LocalDateTime.now().plusMinutes(10).withNano(0);
+
+        eventExpiryScheduler.register(endDate);
+        eventExpiryScheduler.register(endDate.plusNanos(500_000_000));
+
+        Mockito.verify(taskScheduler, Mockito.times(1)).schedule(Mockito.any(Runnable.class), Mockito.any(Instant.class));
+    }
+
+    @Test
+    void testRegister_BeyondHorizon_LeftToReconciliation() {
+        eventExpiryScheduler.register(LocalDateTime.now().plusDays(3));
+
+        Mockito.verifyNoInteractions(taskScheduler);
+    }
+
+    @Test
+    void testTick_ArchivesEndedEvents() {
+        eventExpiryScheduler.register(LocalDateTime.now().plusMinutes(1));
+
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        Mockito.verify(taskScheduler).schedule(task.capture(), Mockito.any(Instant.class));
+        task.getValue().run();
+
+        Mockito.verify(expiredEventArchiver).archiveEndedBefore(Mockito.any());
+    }
+
+    @Test
+    void testReconcile_ArchivesMissedAndRegistersUpcomingEnds() {
+        LocalDateTime soon = LocalDateTime.now().plusMinutes(30);
+        Mockito.when(eventRepository.findEndDatesBetween(Mockito.any(), Mockito.any()))
+                .thenReturn(List.of(soon, soon.plusMinutes(5)));
+
+        eventExpiryScheduler.reconcile();
+
+        Mockito.verify(expiredEventArchiver).archiveEndedBefore(Mockito.any());
+        Mockito.verify(taskScheduler, Mockito.times(2)).schedule(Mockito.any(Runnable.class), Mockito.any(Instant.class));
+    }
+}
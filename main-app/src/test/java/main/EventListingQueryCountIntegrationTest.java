@@ -0,0 +1,122 @@
+package main;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.transaction.Transactional;
+import main.entities.Event;
+import main.entities.Role;
+import main.entities.User;
+import main.repositories.EventRepository;
+import main.repositories.UserRepository;
+import main.security.EventPermissionEvaluator;
+import main.services.EventService;
+import main.web.dto.EventSnapshot;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class EventListingQueryCountIntegrationTest {
+
+    private static final int EVENTS = 50;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventPermissionEvaluator permissionEvaluator;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User viewer;
+
+    @BeforeEach
+    void setup() {
+        eventRepository.deleteAll();
+        userRepository.deleteAll();
+
+        viewer = userRepository.save(user("viewer"));
+        for (int i = 0; i < EVENTS; i++) {
+            User creator = userRepository.save(user("creator" + i));
+            eventRepository.save(Event.builder()
+                    .name("Event " + i)
+                    .description("Description of event " + i)
+                    .venue("Venue")
+                    .location("City")
+                    .price(10.0)
+                    .totalSeats(100)
+                    .availableSeats(i % 2 == 0 ? 100 : 0)
+                    .startDate(LocalDateTime.now().plusDays(1))
+                    .endDate(LocalDateTime.now().plusDays(2))
+                    .creator(creator)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void listingWithPermissions_usesSingleQuery() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<EventSnapshot> events = eventService.getUpcomingEvents();
+        long bookable = events.stream()
+                .filter(event -> permissionEvaluator.canBook(event, viewer.getId()))
+                .count();
+        long editable = events.stream()
+                .filter(event -> permissionEvaluator.canEditOrDelete(event, viewer.getId(), Role.USER.name()))
+                .count();
+
+        assertEquals(EVENTS, events.size());
+        assertEquals(EVENTS / 2, bookable);
+        assertEquals(0, editable);
+        assertTrue(events.stream().allMatch(event -> event.creator() != null));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void cachedListing_doesNoDatabaseWork() {
+        eventService.getUpcomingEvents();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        eventService.getUpcomingEvents();
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    private static User user(String username) {
+        User user = new User();
+        user.setRole(Role.USER);
+        user.setUsername(username);
+        user.setEmail(username + "@test.com");
+        user.setPassword("password123");
+        return user;
+    }
+}
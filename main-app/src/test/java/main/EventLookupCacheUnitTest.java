@@ -0,0 +1,76 @@
+package main;
+
+import main.config.CacheConfig;
+import main.entities.Event;
+import main.repositories.EventRepository;
+import main.services.EventLookupCache;
+import main.web.dto.EventSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EventLookupCacheUnitTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private EventLookupCache eventLookupCache;
+    private Event event;
+
+    @BeforeEach
+    void setup() {
+        eventLookupCache = new EventLookupCache(eventRepository,
+                new ConcurrentMapCacheManager(CacheConfig.EVENTS_BY_ID));
+
+        event = new Event();
+        event.setId(UUID.randomUUID());
+        event.setName("Concert");
+        event.setTotalSeats(100);
+        event.setAvailableSeats(100);
+    }
+
+    @Test
+    void testFindById_LoadsOnce() {
+        Mockito.when(eventRepository.findById(event.getId())).thenReturn(Optional.of(event));
+
+        EventSnapshot first = eventLookupCache.findById(event.getId()).orElseThrow();
+        EventSnapshot second = eventLookupCache.findById(event.getId()).orElseThrow();
+
+        assertSame(first, second);
+        assertEquals("Concert", first.name());
+        Mockito.verify(eventRepository, Mockito.times(1)).findById(event.getId());
+    }
+
+    @Test
+    void testFindById_UnknownEventIsNotCached() {
+        UUID unknown = UUID.randomUUID();
+        Mockito.when(eventRepository.findById(unknown)).thenReturn(Optional.empty());
+
+        assertTrue(eventLookupCache.findById(unknown).isEmpty());
+        assertTrue(eventLookupCache.findById(unknown).isEmpty());
+
+        Mockito.verify(eventRepository, Mockito.times(2)).findById(unknown);
+    }
+
+    @Test
+    void testEvict_ReloadsChangedSeats() {
+        Mockito.when(eventRepository.findById(event.getId())).thenReturn(Optional.of(event));
+        eventLookupCache.findById(event.getId());
+
+        event.setAvailableSeats(98);
+        eventLookupCache.evict(event.getId());
+
+        assertEquals(98, eventLookupCache.findById(event.getId()).orElseThrow().availableSeats());
+        Mockito.verify(eventRepository, Mockito.times(2)).findById(event.getId());
+    }
+}
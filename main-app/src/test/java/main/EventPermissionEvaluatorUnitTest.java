@@ -0,0 +1,33 @@
+package main;
+
+import main.security.EventPermissionEvaluator;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EventPermissionEvaluatorUnitTest {
+
+    private final EventPermissionEvaluator evaluator = new EventPermissionEvaluator();
+    private final UUID creatorId = UUID.randomUUID();
+    private final UUID otherUserId = UUID.randomUUID();
+
+    @Test
+    void testCanBook() {
+        assertTrue(evaluator.canBook(creatorId, 5, otherUserId));
+        assertTrue(evaluator.canBook(null, 5, otherUserId));
+        assertFalse(evaluator.canBook(creatorId, 5, creatorId));
+        assertFalse(evaluator.canBook(creatorId, 0, otherUserId));
+        assertFalse(evaluator.canBook(creatorId, null, otherUserId));
+    }
+
+    @Test
+    void testCanEditOrDelete() {
+        assertTrue(evaluator.canEditOrDelete(creatorId, 5, creatorId, "USER"));
+        assertFalse(evaluator.canEditOrDelete(creatorId, 0, creatorId, "USER"));
+        assertFalse(evaluator.canEditOrDelete(creatorId, 5, otherUserId, "USER"));
+        assertTrue(evaluator.canEditOrDelete(creatorId, 0, otherUserId, "ADMIN"));
+        assertFalse(evaluator.canEditOrDelete(null, 5, otherUserId, "USER"));
+    }
+}
@@ -0,0 +1,97 @@
+package main;
+
+import main.config.CacheConfig;
+import main.exceptions.EventNotFoundException;
+import main.repositories.EventRepository;
+import main.security.EventPermissionCache;
+import main.security.EventPermissionEvaluator;
+import main.security.EventPermissionFacts;
+import main.security.EventSecurity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EventSecurityUnitTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private EventPermissionCache permissionCache;
+    private EventSecurity eventSecurity;
+
+    private UUID eventId;
+    private UUID ownerId;
+
+    @BeforeEach
+    void setup() {
+        permissionCache = new EventPermissionCache(eventRepository,
+                new ConcurrentMapCacheManager(CacheConfig.EVENT_PERMISSIONS));
+        eventSecurity = new EventSecurity(permissionCache, new EventPermissionEvaluator());
+
+        eventId = UUID.randomUUID();
+        ownerId = UUID.randomUUID();
+    }
+
+    @Test
+    void testCanEditOrDelete_RepeatedChecksHitDatabaseOnce() {
+        Mockito.when(eventRepository.findPermissionFactsByIdIn(List.of(eventId)))
+                .thenReturn(List.of(new EventPermissionFacts(eventId, ownerId, 10)));
+
+        assertTrue(eventSecurity.canEditOrDelete(eventId, ownerId, "USER"));
+        assertFalse(eventSecurity.canEditOrDelete(eventId, UUID.randomUUID(), "USER"));
+        assertTrue(eventSecurity.canEditOrDelete(eventId, UUID.randomUUID(), "ADMIN"));
+        assertTrue(eventSecurity.isOwner(eventId, ownerId));
+
+        Mockito.verify(eventRepository, Mockito.times(1)).findPermissionFactsByIdIn(Mockito.any());
+    }
+
+    @Test
+    void testCanEditOrDelete_EvictReloadsFacts() {
+        Mockito.when(eventRepository.findPermissionFactsByIdIn(List.of(eventId)))
+                .thenReturn(List.of(new EventPermissionFacts(eventId, ownerId, 10)))
+                .thenReturn(List.of(new EventPermissionFacts(eventId, ownerId, 0)));
+
+        assertTrue(eventSecurity.canEditOrDelete(eventId, ownerId, "USER"));
+        permissionCache.evict(eventId);
+
+        assertFalse(eventSecurity.canEditOrDelete(eventId, ownerId, "USER"));
+    }
+
+    @Test
+    void testCanEditOrDelete_UnknownEvent_Throws() {
+        Mockito.when(eventRepository.findPermissionFactsByIdIn(List.of(eventId)))
+                .thenReturn(List.of());
+
+        assertThrows(EventNotFoundException.class,
+                () -> eventSecurity.canEditOrDelete(eventId, ownerId, "USER"));
+    }
+
+    @Test
+    void testCanEditOrDelete_Batch_LoadsOnlyMissingEventsInOneQuery() {
+        UUID cachedId = UUID.randomUUID();
+        UUID soldOutId = UUID.randomUUID();
+        UUID unknownId = UUID.randomUUID();
+        Mockito.when(eventRepository.findPermissionFactsByIdIn(List.of(cachedId)))
+                .thenReturn(List.of(new EventPermissionFacts(cachedId, ownerId, 5)));
+        Mockito.when(eventRepository.findPermissionFactsByIdIn(List.of(soldOutId, unknownId)))
+                .thenReturn(List.of(new EventPermissionFacts(soldOutId, ownerId, 0)));
+        eventSecurity.canEditOrDelete(cachedId, ownerId, "USER");
+
+        Map<UUID, Boolean> decisions = eventSecurity.canEditOrDelete(
+                List.of(cachedId, soldOutId, unknownId), ownerId, "USER");
+
+        assertEquals(Map.of(cachedId, true, soldOutId, false, unknownId, false), decisions);
+        Mockito.verify(eventRepository, Mockito.times(2)).findPermissionFactsByIdIn(Mockito.any());
+    }
+}
@@ -7,9 +7,11 @@ import main.entities.User;
 import main.repositories.EventRepository;
 import main.repositories.UserRepository;
 import main.services.EventService;
+import main.services.ExpiredEventArchiver;
 import main.web.dto.EditEventDTO;
 import main.web.dto.EventAnalyticsDTO;
 import main.web.dto.EventDTO;
+import main.web.dto.EventSnapshot;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -40,6 +42,9 @@ public class EventServiceIntegrationTest {
     @Autowired
     private EventRepository eventRepository;
 
+    @Autowired
+    private ExpiredEventArchiver expiredEventArchiver;
+
     @Autowired
     private UserRepository userRepository;
 
@@ -84,9 +89,9 @@ public class EventServiceIntegrationTest {
     void save_and_findAll() {
         eventService.save(event);
 
-        List<Event> events = eventService.findUpcomingEvents();
+        List<EventSnapshot> events = eventService.getUpcomingEvents();
         assertEquals(1, events.size());
-        assertEquals(event.getName(), events.get(0).getName());
+        assertEquals(event.getName(), events.get(0).name());
     }
 
     @Test
@@ -233,7 +238,7 @@ public class EventServiceIntegrationTest {
     }
 
     @Test
-    void getUpcomingEvents_and_removeExpiredEvents() {
+    void getUpcomingEvents_afterArchivingExpiredEvents() {
         Event futureEvent = new Event();
         futureEvent.setName("Future Event");
         futureEvent.setDescription("Future Event");
@@ -258,13 +263,13 @@ public class EventServiceIntegrationTest {
         pastEvent.setAvailableSeats(50);
         eventService.save(pastEvent);
 
-        eventService.removeExpiredEvents();
+        assertEquals(List.of(pastEvent.getId()), expiredEventArchiver.archiveEndedBefore(LocalDateTime.now()));
 
-        List<Event> upcomingEvents = eventService.getUpcomingEvents();
+        List<EventSnapshot> upcomingEvents = eventService.getUpcomingEvents();
 
         assertThat(upcomingEvents)
                 .hasSize(1)
-                .extracting(Event::getName)
+                .extracting(EventSnapshot::name)
                 .containsExactly("Future Event");
     }
 
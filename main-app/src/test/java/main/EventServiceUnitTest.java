@@ -5,10 +5,17 @@ import main.entities.Role;
 import main.entities.User;
 import main.exceptions.EventNotFoundException;
 import main.repositories.EventRepository;
+import main.security.EventPermissionCache;
+import main.services.AnalyticsOutboxService;
+import main.services.EventExpiryScheduler;
+import main.services.EventLookupCache;
 import main.services.EventService;
+import main.services.SeatInventoryService;
+import main.services.UpcomingEventsCache;
 import main.web.dto.EditEventDTO;
 import main.web.dto.EventAnalyticsDTO;
 import main.web.dto.EventDTO;
+import main.web.dto.EventSnapshot;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -32,6 +39,24 @@ public class EventServiceUnitTest {
     @Mock
     private EventRepository eventRepository;
 
+    @Mock
+    private AnalyticsOutboxService analyticsOutboxService;
+
+    @Mock
+    private UpcomingEventsCache upcomingEventsCache;
+
+    @Mock
+    private EventPermissionCache eventPermissionCache;
+
+    @Mock
+    private EventExpiryScheduler eventExpiryScheduler;
+
+    @Mock
+    private SeatInventoryService seatInventoryService;
+
+    @Mock
+    private EventLookupCache eventLookupCache;
+
     private User user;
     private Event event;
 
@@ -70,17 +95,6 @@ public class EventServiceUnitTest {
                 () -> eventService.findById(id));
     }
 
-    @Test
-    void testFindUpcomingEvents() {
-        Mockito.when(eventRepository.findAllUpcoming(Mockito.any()))
-                .thenReturn(Collections.singletonList(event));
-
-        List<Event> upcoming = eventService.findUpcomingEvents();
-
-        assertFalse(upcoming.isEmpty());
-        assertEquals(event.getName(), upcoming.get(0).getName());
-    }
-
     @Test
     void testCreate_ValidEvent() {
         EventDTO dto = EventDTO.builder()
@@ -101,6 +115,9 @@ public class EventServiceUnitTest {
 
         assertEquals(dto.getName(), created.getName());
         assertEquals(user, created.getCreator());
+        Mockito.verify(analyticsOutboxService).enqueueEvent(created);
+        Mockito.verify(upcomingEventsCache).invalidate();
+        Mockito.verify(eventExpiryScheduler).register(dto.getEndDate());
     }
 
     @Test
@@ -132,6 +149,11 @@ public class EventServiceUnitTest {
 
         assertEquals("Updated Name", event.getName());
         Mockito.verify(eventRepository).save(event);
+        Mockito.verify(upcomingEventsCache).invalidate();
+        Mockito.verify(eventPermissionCache).evict(event.getId());
+        Mockito.verify(seatInventoryService).evict(event.getId());
+        Mockito.verify(eventLookupCache).evict(event.getId());
+        Mockito.verify(eventExpiryScheduler).register(dto.getEndDate());
     }
 
     @Test
@@ -176,6 +198,8 @@ public class EventServiceUnitTest {
         eventService.delete(event.getId(), admin);
 
         Mockito.verify(eventRepository).save(Mockito.argThat(Event::isArchived));
+        Mockito.verify(seatInventoryService).evict(event.getId());
+        Mockito.verify(eventLookupCache).evict(event.getId());
     }
 
     @Test
@@ -213,37 +237,19 @@ public class EventServiceUnitTest {
     }
 
     @Test
-    void testGetUpcomingEvents() {
-        Mockito.when(eventRepository.findAllUpcomingNotArchived(Mockito.any()))
-                .thenReturn(Collections.singletonList(event));
-
-        eventService.getUpcomingEvents();
-
-        Mockito.verify(eventRepository).findAllUpcomingNotArchived(Mockito.any());
-    }
-
-    @Test
-    void testRemoveExpiredEvents() {
-        Event expiredEvent = new Event();
-        expiredEvent.setArchived(false);
-        expiredEvent.setEndDate(LocalDateTime.now().minusDays(1));
-
-        Mockito.when(eventRepository.findAllByEndDateBeforeAndArchivedFalse(Mockito.any()))
-                .thenReturn(List.of(expiredEvent));
-
-        eventService.removeExpiredEvents();
-
-        Mockito.verify(eventRepository).saveAll(Mockito.argThat(list ->
-                {
-                    boolean[] allArchived = {true};
-                    list.forEach(e -> {
-                        if (!e.isArchived()) {
-                            allArchived[0] = false;
-                        }
-                    });
-                    return allArchived[0];
-                }
-        ));
+    void testGetUpcomingEvents_ServedFromCacheWithoutStartedEvents() {
+        event.setStartDate(LocalDateTime.now().plusDays(1));
+        Event started = new Event();
+        started.setId(UUID.randomUUID());
+        started.setStartDate(LocalDateTime.now().minusMinutes(1));
+        Mockito.when(upcomingEventsCache.get())
+                .thenReturn(List.of(EventSnapshot.of(event), EventSnapshot.of(started)));
+
+        List<EventSnapshot> upcoming = eventService.getUpcomingEvents();
+
+        assertEquals(1, upcoming.size());
+        assertEquals(event.getId(), upcoming.get(0).id());
+        Mockito.verifyNoInteractions(eventRepository);
     }
 
     @Test
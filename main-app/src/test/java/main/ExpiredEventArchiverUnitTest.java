@@ -0,0 +1,87 @@
+package main;
+
+import main.repositories.EventRepository;
+import main.security.EventPermissionCache;
+import main.services.EventLookupCache;
+import main.services.ExpiredEventArchiver;
+import main.services.SeatInventoryService;
+import main.services.UpcomingEventsCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ExpiredEventArchiverUnitTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private UpcomingEventsCache upcomingEventsCache;
+
+    @Mock
+    private EventPermissionCache eventPermissionCache;
+
+    @Mock
+    private SeatInventoryService seatInventoryService;
+
+    @Mock
+    private EventLookupCache eventLookupCache;
+
+    private ExpiredEventArchiver archiver;
+
+    @BeforeEach
+    void setup() {
+        archiver = new ExpiredEventArchiver(eventRepository, transactionManager,
+                upcomingEventsCache, eventPermissionCache, seatInventoryService, eventLookupCache, CHUNK_SIZE);
+    }
+
+    @Test
+    void testArchiveEndedBefore_ArchivesInChunksUntilShortChunk() {
+        LocalDateTime cutoff = LocalDateTime.now();
+        List<UUID> first = List.of(UUID.randomUUID(), UUID.randomUUID());
+        List<UUID> second = List.of(UUID.randomUUID());
+        Mockito.when(eventRepository.findExpiredIds(cutoff, Limit.of(CHUNK_SIZE)))
+                .thenReturn(first, second);
+        Mockito.when(eventRepository.archiveByIdIn(Mockito.anyCollection()))
+                .thenAnswer(i -> i.<List<UUID>>getArgument(0).size());
+
+        List<UUID> archived = archiver.archiveEndedBefore(cutoff);
+
+        assertEquals(3, archived.size());
+        Mockito.verify(eventRepository).archiveByIdIn(first);
+        Mockito.verify(eventRepository).archiveByIdIn(second);
+        Mockito.verify(transactionManager, Mockito.times(2)).commit(Mockito.any());
+        Mockito.verify(upcomingEventsCache).removeAll(first);
+        Mockito.verify(upcomingEventsCache).removeAll(second);
+        Mockito.verify(eventPermissionCache, Mockito.times(3)).evict(Mockito.any());
+        Mockito.verify(seatInventoryService, Mockito.times(3)).evict(Mockito.any());
+        Mockito.verify(eventLookupCache, Mockito.times(3)).evict(Mockito.any());
+    }
+
+    @Test
+    void testArchiveEndedBefore_NothingExpired() {
+        Mockito.when(eventRepository.findExpiredIds(Mockito.any(), Mockito.any()))
+                .thenReturn(List.of());
+
+        assertTrue(archiver.archiveEndedBefore(LocalDateTime.now()).isEmpty());
+        Mockito.verify(eventRepository, Mockito.never()).archiveByIdIn(Mockito.anyCollection());
+        Mockito.verifyNoInteractions(upcomingEventsCache, eventPermissionCache, seatInventoryService, eventLookupCache);
+    }
+}
@@ -0,0 +1,152 @@
+package main;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.sql.DataSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Seeds a database with the schema ddl-auto=update produced before Flyway, then runs the
+ * migrations the way the application does on startup: V1 is baselined, not executed, so
+ * everything added since has to come from the later versions. The upgraded database must
+ * end up with the same columns and indexes as the freshly migrated test database, and QR
+ * codes stored in the old bookings.qr_code_base64 column must survive the upgrade.
+ * <p>
+ * It creates and drops a scratch database next to the schema configured through
+ * {@link MySqlTestDatabase}, so it only runs when that opt-in server is set.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+public class FlywayUpgradeIntegrationTest {
+
+    private static final String UPGRADED = "event_booking_upgrade_test";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void requireMySql() {
+        MySqlTestDatabase.assumeConfigured();
+    }
+
+    @DynamicPropertySource
+    static void mySqlProperties(DynamicPropertyRegistry registry) {
+        MySqlTestDatabase.register(registry);
+    }
+
+    @BeforeEach
+    void seedPreFlywayDatabase() throws SQLException {
+        dropUpgradedDatabase();
+        jdbcTemplate.execute("CREATE DATABASE " + UPGRADED);
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setCatalog(UPGRADED);
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/pre-flyway-schema.sql"));
+        }
+    }
+
+    @AfterEach
+    void dropUpgradedDatabase() {
+        jdbcTemplate.execute("DROP DATABASE IF EXISTS " + UPGRADED);
+    }
+
+    @Test
+    void preFlywayDatabase_isBaselinedAndUpgradedToTheCurrentSchema() {
+        MigrateResult result = migrateUpgradedDatabase();
+
+        assertTrue(result.success);
+        assertFalse(result.migrations.stream().anyMatch(migration -> "1".equals(migration.version)));
+
+        String current = jdbcTemplate.queryForObject("SELECT DATABASE()", String.class);
+        assertEquals(columns(current), columns(UPGRADED));
+        assertEquals(indexes(current), indexes(UPGRADED));
+    }
+
+    @Test
+    void preFlywayBooking_keepsItsQrCode() throws SQLException, NoSuchAlgorithmException {
+        byte[] image = {(byte) 0x89, 'P', 'N', 'G', 1, 2, 3};
+        UUID bookingId = UUID.randomUUID();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setCatalog(UPGRADED);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET FOREIGN_KEY_CHECKS = 0");
+                try (PreparedStatement insert = connection.prepareStatement("""
+                        INSERT INTO bookings (id, event_id, user_id, seats_booked, total_price, booked_on, status, qr_code_base64)
+                        VALUES (UUID_TO_BIN(?), UUID_TO_BIN(UUID()), UUID_TO_BIN(UUID()), 2, 40, NOW(6), 'CONFIRMED', ?)""")) {
+                    insert.setString(1, bookingId.toString());
+                    insert.setString(2, Base64.getEncoder().encodeToString(image));
+                    insert.executeUpdate();
+                } finally {
+                    statement.execute("SET FOREIGN_KEY_CHECKS = 1");
+                }
+            }
+        }
+
+        assertTrue(migrateUpgradedDatabase().success);
+
+        Map<String, Object> qrCode = jdbcTemplate.queryForMap(
+                "SELECT image, etag FROM " + UPGRADED + ".booking_qr_codes WHERE booking_id = UUID_TO_BIN(?)",
+                bookingId.toString());
+        assertArrayEquals(image, (byte[]) qrCode.get("image"));
+        assertEquals(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(image)), qrCode.get("etag"));
+    }
+
+    private MigrateResult migrateUpgradedDatabase() {
+        return Flyway.configure()
+                .dataSource(dataSource)
+                .schemas(UPGRADED)
+                .locations("classpath:db/migration")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+    }
+
+    private List<String> columns(String schema) {
+        return jdbcTemplate.queryForList("""
+                SELECT CONCAT(table_name, '.', column_name, ' ', column_type, ' ', is_nullable)
+                FROM information_schema.columns
+                WHERE table_schema = ? AND table_name <> 'flyway_schema_history'
+                ORDER BY table_name, column_name""", String.class, schema);
+    }
+
+    // Hibernate named the old unique and foreign key indexes itself, so only named indexes are compared.
+    private List<String> indexes(String schema) {
+        return jdbcTemplate.queryForList("""
+                SELECT DISTINCT CONCAT(table_name, '.', index_name)
+                FROM information_schema.statistics
+                WHERE table_schema = ? AND index_name LIKE 'idx\\_%'
+                ORDER BY 1""", String.class, schema);
+    }
+}
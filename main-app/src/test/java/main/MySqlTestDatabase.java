@@ -0,0 +1,46 @@
+package main;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Opt-in MySQL for the tests that need the real migrations, driver or query planner.
+ * They run only when {@code -Dtest.mysql.url} (or {@code TEST_MYSQL_URL}) names a
+ * dedicated, disposable schema: those tests empty it, seed it and alter its indexes.
+ * Everything else runs against the in-memory H2 database of the test profile.
+ */
+final class MySqlTestDatabase {
+
+    static final String URL = setting("test.mysql.url", "TEST_MYSQL_URL");
+    static final String USERNAME = setting("test.mysql.username", "TEST_MYSQL_USERNAME");
+    static final String PASSWORD = setting("test.mysql.password", "TEST_MYSQL_PASSWORD");
+
+    private MySqlTestDatabase() {
+    }
+
+    static boolean isConfigured() {
+        return URL != null && !URL.isBlank();
+    }
+
+    static void assumeConfigured() {
+        assumeTrue(isConfigured(), "Set test.mysql.url to a disposable MySQL schema to run this test");
+    }
+
+    static void register(DynamicPropertyRegistry registry) {
+        if (!isConfigured()) {
+            return;
+        }
+        registry.add("spring.datasource.url", () -> URL);
+        registry.add("spring.datasource.username", () -> USERNAME != null ? USERNAME : "");
+        registry.add("spring.datasource.password", () -> PASSWORD != null ? PASSWORD : "");
+        registry.add("spring.datasource.driver-class-name", () -> "com.mysql.cj.jdbc.Driver");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.MySQL8Dialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("spring.flyway.enabled", () -> "true");
+    }
+
+    private static String setting(String property, String environment) {
+        return System.getProperty(property, System.getenv(environment));
+    }
+}
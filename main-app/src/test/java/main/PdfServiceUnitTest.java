@@ -0,0 +1,153 @@
+package main;
+
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.canvas.parser.PdfTextExtractor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import main.entities.Booking;
+import main.entities.Event;
+import main.entities.User;
+import main.services.PdfService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PdfServiceUnitTest {
+
+    @TempDir
+    Path cacheDir;
+
+    private User user;
+    private Event event;
+
+    @BeforeEach
+    void setup() {
+        user = new User();
+        user.setName("Ana");
+        user.setEmail("ana@example.com");
+
+        event = new Event();
+        event.setName("Concert");
+        event.setStartDate(LocalDateTime.now().plusDays(1));
+        event.setEndDate(LocalDateTime.now().plusDays(1).plusHours(2));
+    }
+
+    @Test
+    void testGenerateBookingPdf_RendersInMemory() {
+        PdfService pdfService = new PdfService(false, cacheDir, 10, new SimpleMeterRegistry());
+
+        byte[] first = pdfService.generateBookingPdf(booking());
+        byte[] second = pdfService.generateBookingPdf(booking());
+
+        assertEquals("%PDF-", new String(first, 0, 5, StandardCharsets.US_ASCII));
+        assertEquals("%PDF-", new String(second, 0, 5, StandardCharsets.US_ASCII));
+        assertEquals(0, countFiles());
+    }
+
+    @Test
+    void testGetBookingPdf_CacheEnabled_ReusesFileAndStaysBounded() {
+        PdfService pdfService = new PdfService(true, cacheDir, 2, new SimpleMeterRegistry());
+        Booking booking = booking();
+
+        byte[] rendered = pdfService.getBookingPdf(booking);
+        assertArrayEquals(rendered, pdfService.getBookingPdf(booking));
+        assertEquals(1, countFiles(booking.getId().toString()));
+
+        pdfService.getBookingPdf(booking());
+        pdfService.getBookingPdf(booking());
+
+        assertEquals(2, countFiles());
+    }
+
+    @Test
+    void testGetBookingPdf_EventEdited_RendersAgainAndReplacesFile() {
+        PdfService pdfService = new PdfService(true, cacheDir, 10, new SimpleMeterRegistry());
+        Booking booking = booking();
+
+        byte[] before = pdfService.getBookingPdf(booking);
+        event.setName("Concert (moved)");
+        byte[] after = pdfService.getBookingPdf(booking);
+
+        assertFalse(Arrays.equals(before, after));
+        assertTrue(text(after).contains("Concert (moved)"));
+        assertEquals(1, countFiles(booking.getId().toString()));
+    }
+
+    @Test
+    void testGenerateBookingPdf_StampsDetailsOnTheTemplatePage() {
+        PdfService pdfService = new PdfService(false, cacheDir, 10, new SimpleMeterRegistry());
+
+        String text = text(pdfService.generateBookingPdf(booking()));
+
+        assertTrue(text.contains("Booking Confirmation"));
+        assertTrue(text.contains("Concert"));
+        assertTrue(text.contains("ana@example.com"));
+    }
+
+    @Test
+    void testGenerateBookingPdf_ConcurrentRendersShareTheTemplate() throws Exception {
+        PdfService pdfService = new PdfService(false, cacheDir, 10, new SimpleMeterRegistry());
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<byte[]>> pdfs = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                pdfs.add(executor.submit(() -> pdfService.generateBookingPdf(booking())));
+            }
+            for (Future<byte[]> pdf : pdfs) {
+                assertTrue(text(pdf.get()).contains("Booking Confirmation"));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static String text(byte[] pdf) {
+        try (PdfDocument document = new PdfDocument(new PdfReader(new ByteArrayInputStream(pdf)))) {
+            assertEquals(1, document.getNumberOfPages());
+            return PdfTextExtractor.getTextFromPage(document.getFirstPage());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Booking booking() {
+        return Booking.builder()
+                .id(UUID.randomUUID())
+                .user(user)
+                .event(event)
+                .seatsBooked(2)
+                .bookedOn(LocalDateTime.now())
+                .totalPrice(40.0)
+                .build();
+    }
+
+    private long countFiles() {
+        return countFiles("");
+    }
+
+    private long countFiles(String prefix) {
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            return files.filter(path -> path.getFileName().toString().startsWith(prefix)).count();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package main;
+
+import com.google.zxing.BinaryBitmap;
+import com.google.zxing.DecodeHintType;
+import com.google.zxing.client.j2se.BufferedImageLuminanceSource;
+import com.google.zxing.common.HybridBinarizer;
+import com.google.zxing.qrcode.QRCodeReader;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import main.qrcode.QrCode;
+import main.qrcode.QrPngWriter;
+import main.services.QRCodeService;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class QRCodeServiceUnitTest {
+
+    private static final int WHITE = 0xFFFFFFFF;
+    private static final int BLACK = 0xFF000000;
+
+    private final QRCodeService qrCodeService = new QRCodeService(new SimpleMeterRegistry());
+
+    @Test
+    void testGenerateQRCodePng_IsValidPng() throws Exception {
+        byte[] png = qrCodeService.generateQRCodePng("Booking ID: 123\nEvent: Concert");
+
+        byte[] signature = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+        assertArrayEquals(signature, Arrays.copyOf(png, 8));
+
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        assertNotNull(image);
+        assertEquals(image.getWidth(), image.getHeight());
+        assertTrue(image.getWidth() <= 250);
+    }
+
+    @Test
+    void testGenerateQRCodePng_HasQuietZoneAndFinderPatterns() throws Exception {
+        String text = "Booking ID: 123";
+        QrCode qr = QrCode.encodeText(text, QrCode.Ecc.MEDIUM);
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(qrCodeService.generateQRCodePng(text)));
+
+        int scale = image.getWidth() / (qr.getSize() + 8);
+        int border = 4 * scale;
+
+        assertEquals(WHITE, image.getRGB(0, 0));
+        assertEquals(WHITE, image.getRGB(border - 1, border - 1));
+        assertEquals(BLACK, image.getRGB(border, border));
+        assertEquals(WHITE, image.getRGB(border + scale, border + scale));
+        assertEquals(BLACK, image.getRGB(border + 3 * scale, border + 3 * scale));
+        assertEquals(BLACK, image.getRGB(image.getWidth() - border - 1, border));
+        assertEquals(BLACK, image.getRGB(border, image.getHeight() - border - 1));
+        assertEquals(WHITE, image.getRGB(image.getWidth() - 1, image.getHeight() - 1));
+    }
+
+    @Test
+    void testGenerateQRCodePng_DecodesToOriginalText() throws Exception {
+        String text = "Event: Концерт в София\nVenue: Arena\nDate: 2025-06-01T20:00\nBooking ID: 7c9e6679-7425-40de-944b-e07fc1f90ae7";
+
+        assertEquals(text, decode(qrCodeService.generateQRCodePng(text)));
+    }
+
+    @Test
+    void testEncodeText_RoundTripsAcrossVersionsAndEccLevels() throws Exception {
+        QrPngWriter writer = new QrPngWriter(4, QrPngWriter.DEFAULT_BORDER);
+        for (String text : List.of("A", "Booking ID: 123", "x".repeat(300), "Seat 42; ".repeat(120))) {
+            for (QrCode.Ecc ecc : QrCode.Ecc.values()) {
+                QrCode qr = QrCode.encodeText(text, ecc);
+
+                assertEquals(text, decode(writer.toPng(qr)), "version " + qr.getVersion() + ", " + ecc);
+            }
+        }
+    }
+
+    @Test
+    void testGenerateQRCodeBase64_EncodesPng() {
+        String text = "Booking ID: 123";
+
+        assertArrayEquals(qrCodeService.generateQRCodePng(text),
+                Base64.getDecoder().decode(qrCodeService.generateQRCodeBase64(text)));
+    }
+
+    @Test
+    void testEncodeText_PicksSmallestVersion() {
+        assertEquals(1, QrCode.encodeText("Hello, world!", QrCode.Ecc.MEDIUM).getVersion());
+        assertEquals(21, QrCode.encodeText("Hello, world!", QrCode.Ecc.MEDIUM).getSize());
+        assertTrue(QrCode.encodeText("x".repeat(500), QrCode.Ecc.MEDIUM).getVersion() > 10);
+    }
+
+    @Test
+    void testEncodeText_TooLong_Throws() {
+        assertThrows(IllegalArgumentException.class,
+                () -> QrCode.encodeText("x".repeat(3000), QrCode.Ecc.MEDIUM));
+    }
+
+    private static String decode(byte[] png) throws Exception {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        BinaryBitmap bitmap = new BinaryBitmap(new HybridBinarizer(new BufferedImageLuminanceSource(image)));
+        return new QRCodeReader().decode(bitmap, Map.of(
+                DecodeHintType.PURE_BARCODE, Boolean.TRUE,
+                DecodeHintType.CHARACTER_SET, "UTF-8")).getText();
+    }
+}
@@ -0,0 +1,211 @@
+package main;
+
+import main.entities.Booking;
+import main.entities.BookingStatus;
+import main.entities.Event;
+import main.entities.FulfillmentStatus;
+import main.entities.Role;
+import main.entities.User;
+import main.repositories.BookingRepository;
+import main.repositories.EventRepository;
+import main.repositories.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.sql.ResultSetMetaData;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Seeds a few thousand rows and prints the plan and average latency of the hot queries
+ * with and without the indexes from V5__hot_path_indexes.sql. Indexes that also back a
+ * foreign key cannot be dropped on MySQL, so for those only the indexed plan is checked.
+ * <p>
+ * The test empties the users, events and bookings tables, so it only runs against the
+ * disposable schema configured through {@link MySqlTestDatabase}.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+public class QueryPlanBenchmarkIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryPlanBenchmarkIntegrationTest.class);
+
+    private static final int USERS = 40;
+    private static final int EVENTS = 2000;
+    private static final int BOOKINGS_PER_USER = 50;
+    private static final int RUNS = 50;
+
+    private static final List<PlanCase> CASES = List.of(
+            new PlanCase("idx_events_archived_start_date", "events", "archived, start_date", true, """
+                    SELECT e.id, e.name, e.start_date FROM events e
+                    WHERE e.archived = false AND e.start_date > CURRENT_TIMESTAMP
+                    ORDER BY e.start_date"""),
+            new PlanCase("idx_events_archived_end_date", "events", "archived, end_date", true, """
+                    SELECT e.id FROM events e
+                    WHERE e.archived = false AND e.end_date < CURRENT_TIMESTAMP"""),
+            new PlanCase("idx_bookings_fulfillment", "bookings", "fulfillment_status, fulfillment_updated_on", true, """
+                    SELECT b.id FROM bookings b
+                    WHERE b.fulfillment_status IN ('PENDING', 'PROCESSING')
+                      AND b.fulfillment_updated_on < CURRENT_TIMESTAMP
+                    ORDER BY b.fulfillment_updated_on
+                    LIMIT 100"""),
+            new PlanCase("idx_bookings_user_booked_on", "bookings", "user_id, booked_on", false, """
+                    SELECT b.id, b.booked_on FROM bookings b
+                    WHERE b.user_id = (SELECT u.id FROM users u WHERE u.username = 'bench-user-0')
+                    ORDER BY b.booked_on DESC""")
+    );
+
+    @BeforeAll
+    static void requireMySql() {
+        MySqlTestDatabase.assumeConfigured();
+    }
+
+    @DynamicPropertySource
+    static void mySqlProperties(DynamicPropertyRegistry registry) {
+        MySqlTestDatabase.register(registry);
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @BeforeEach
+    void seed() {
+        clean();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            users.add(User.builder()
+                    .username("bench-user-" + i)
+                    .email("bench-user-" + i + "@test.com")
+                    .password("password123")
+                    .role(Role.USER)
+                    .active(true)
+                    .build());
+        }
+        users = userRepository.saveAll(users);
+
+        // 10% upcoming, 2.5% expired but not yet archived, the rest archived history.
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < EVENTS; i++) {
+            boolean upcoming = i % 10 == 1;
+            boolean expired = i % 40 == 0;
+            LocalDateTime start = upcoming ? now.plusDays(1 + i % 30) : now.minusDays(2 + i % 365);
+            events.add(Event.builder()
+                    .name("Event " + i)
+                    .description("Benchmark event " + i)
+                    .venue("Venue")
+                    .location("City")
+                    .price(10.0)
+                    .totalSeats(100)
+                    .availableSeats(100)
+                    .startDate(start)
+                    .endDate(start.plusHours(3))
+                    .archived(!upcoming && !expired)
+                    .creator(users.get(i % USERS))
+                    .build());
+        }
+        events = eventRepository.saveAll(events);
+
+        List<Booking> bookings = new ArrayList<>();
+        for (int i = 0; i < USERS * BOOKINGS_PER_USER; i++) {
+            boolean stalled = i % 50 == 0;
+            bookings.add(Booking.builder()
+                    .user(users.get(i % USERS))
+                    .event(events.get(i % EVENTS))
+                    .seatsBooked(1)
+                    .totalPrice(10.0)
+                    .bookedOn(now.minusMinutes(i))
+                    .status(BookingStatus.CONFIRMED)
+                    .fulfillmentStatus(stalled ? FulfillmentStatus.PENDING : FulfillmentStatus.COMPLETED)
+                    .fulfillmentUpdatedOn(stalled ? now.minusHours(1) : now)
+                    .build());
+        }
+        bookingRepository.saveAll(bookings);
+    }
+
+    @AfterEach
+    void clean() {
+        bookingRepository.deleteAllInBatch();
+        eventRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void hotQueries_useCompositeIndexes() {
+        for (PlanCase planCase : CASES) {
+            String after = explain(planCase.sql());
+            long afterMicros = averageMicros(planCase.sql());
+
+            if (planCase.droppable()) {
+                jdbcTemplate.execute("DROP INDEX " + planCase.index() + " ON " + planCase.table());
+                try {
+                    String before = explain(planCase.sql());
+                    long beforeMicros = averageMicros(planCase.sql());
+                    log.info("{}\n  without index ({} us): {}\n  with index    ({} us): {}",
+                            planCase.index(), beforeMicros, before, afterMicros, after);
+                    assertFalse(before.contains(planCase.index()), before);
+                } finally {
+                    jdbcTemplate.execute("CREATE INDEX " + planCase.index()
+                            + " ON " + planCase.table() + " (" + planCase.columns() + ")");
+                }
+            } else {
+                log.info("{}\n  with index ({} us): {}", planCase.index(), afterMicros, after);
+            }
+
+            assertTrue(after.contains(planCase.index()), after);
+        }
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.query("EXPLAIN " + sql, rs -> {
+            ResultSetMetaData metaData = rs.getMetaData();
+            StringBuilder plan = new StringBuilder();
+            while (rs.next()) {
+                for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                    plan.append(metaData.getColumnLabel(i)).append('=').append(rs.getString(i)).append(' ');
+                }
+                plan.append('\n');
+            }
+            return plan.toString().toLowerCase();
+        });
+    }
+
+    private long averageMicros(String sql) {
+        jdbcTemplate.queryForList(sql);
+        long start = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            jdbcTemplate.queryForList(sql);
+        }
+        return (System.nanoTime() - start) / RUNS / 1000;
+    }
+
+    private record PlanCase(String index, String table, String columns, boolean droppable, String sql) {
+    }
+}
@@ -0,0 +1,178 @@
+package main;
+
+import main.entities.Event;
+import main.repositories.EventRepository;
+import main.security.EventPermissionCache;
+import main.services.EventLookupCache;
+import main.services.SeatInventoryService;
+import main.services.UpcomingEventsCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SeatInventoryServiceUnitTest {
+
+    @InjectMocks
+    private SeatInventoryService seatInventoryService;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private UpcomingEventsCache upcomingEventsCache;
+
+    @Mock
+    private EventPermissionCache eventPermissionCache;
+
+    @Mock
+    private EventLookupCache eventLookupCache;
+
+    private Event event;
+
+    @BeforeEach
+    void setup() {
+        event = new Event();
+        event.setId(UUID.randomUUID());
+        event.setTotalSeats(10);
+        event.setAvailableSeats(10);
+    }
+
+    @Test
+    void testReserve_Success() {
+        Mockito.when(eventRepository.findAvailableSeatsById(event.getId()))
+                .thenReturn(Optional.of(10));
+        Mockito.when(eventRepository.decrementAvailableSeats(event.getId(), 3))
+                .thenReturn(1);
+
+        assertTrue(seatInventoryService.reserve(event, 3));
+        assertEquals(7, event.getAvailableSeats());
+        Mockito.verify(upcomingEventsCache).seatsChanged(event.getId(), -3);
+        Mockito.verify(eventPermissionCache).evict(event.getId());
+        Mockito.verify(eventLookupCache).evict(event.getId());
+    }
+
+    @Test
+    void testReserve_SoldOut_RejectedWithoutUpdate() {
+        Mockito.when(eventRepository.findAvailableSeatsById(event.getId()))
+                .thenReturn(Optional.of(2));
+
+        assertFalse(seatInventoryService.reserve(event, 3));
+        assertFalse(seatInventoryService.reserve(event, 3));
+
+        Mockito.verify(eventRepository, Mockito.times(2)).findAvailableSeatsById(event.getId());
+        Mockito.verify(eventRepository, Mockito.never()).decrementAvailableSeats(Mockito.any(), Mockito.anyInt());
+    }
+
+    @Test
+    void testReserve_GuardedUpdateFails_Resyncs() {
+        Mockito.when(eventRepository.findAvailableSeatsById(event.getId()))
+                .thenReturn(Optional.of(10), Optional.of(1));
+        Mockito.when(eventRepository.decrementAvailableSeats(event.getId(), 3))
+                .thenReturn(0);
+
+        assertFalse(seatInventoryService.reserve(event, 3));
+        assertFalse(seatInventoryService.reserve(event, 3));
+
+        Mockito.verify(eventRepository, Mockito.times(2)).findAvailableSeatsById(event.getId());
+        Mockito.verify(eventRepository, Mockito.times(1)).decrementAvailableSeats(event.getId(), 3);
+        assertEquals(10, event.getAvailableSeats());
+    }
+
+    @Test
+    void testReserve_SeatsFreedElsewhere_ReloadsCounter() {
+        Mockito.when(eventRepository.findAvailableSeatsById(event.getId()))
+                .thenReturn(Optional.of(0), Optional.of(5));
+        Mockito.when(eventRepository.decrementAvailableSeats(event.getId(), 3))
+                .thenReturn(1);
+
+        assertFalse(seatInventoryService.reserve(event, 3));
+        assertTrue(seatInventoryService.reserve(event, 3));
+
+        Mockito.verify(eventRepository, Mockito.times(2)).findAvailableSeatsById(event.getId());
+    }
+
+    @Test
+    void testEvict_NextReservationReloadsCounter() {
+        Mockito.when(eventRepository.findAvailableSeatsById(event.getId()))
+                .thenReturn(Optional.of(10), Optional.of(4));
+        Mockito.when(eventRepository.decrementAvailableSeats(Mockito.eq(event.getId()), Mockito.anyInt()))
+                .thenReturn(1);
+
+        assertTrue(seatInventoryService.reserve(event, 3));
+        seatInventoryService.evict(event.getId());
+
+        assertFalse(seatInventoryService.reserve(event, 5));
+        Mockito.verify(eventRepository, Mockito.times(2)).findAvailableSeatsById(event.getId());
+    }
+
+    @Test
+    void testRelease_ReturnsSeatsToCounter() {
+        Mockito.when(eventRepository.findAvailableSeatsById(event.getId()))
+                .thenReturn(Optional.of(2), Optional.of(0));
+        Mockito.when(eventRepository.decrementAvailableSeats(event.getId(), 2))
+                .thenReturn(1);
+        Mockito.when(eventRepository.incrementAvailableSeats(event.getId(), 2))
+                .thenReturn(1);
+
+        assertTrue(seatInventoryService.reserve(event, 2));
+        assertFalse(seatInventoryService.reserve(event, 2));
+
+        seatInventoryService.release(event, 2);
+
+        assertTrue(seatInventoryService.reserve(event, 2));
+    }
+
+    @Test
+    void testReserve_Concurrent_NeverOversells() throws Exception {
+        AtomicInteger databaseSeats = new AtomicInteger(50);
+        Mockito.when(eventRepository.findAvailableSeatsById(event.getId()))
+                .thenAnswer(i -> Optional.of(databaseSeats.get()));
+        Mockito.when(eventRepository.decrementAvailableSeats(Mockito.eq(event.getId()), Mockito.anyInt()))
+                .thenAnswer(i -> {
+                    int seats = i.getArgument(1);
+                    int current;
+                    do {
+                        current = databaseSeats.get();
+                        if (current < seats) {
+                            return 0;
+                        }
+                    } while (!databaseSeats.compareAndSet(current, current - seats));
+                    return 1;
+                });
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            Event snapshot = new Event();
+            snapshot.setId(event.getId());
+            results.add(executor.submit(() -> seatInventoryService.reserve(snapshot, 1)));
+        }
+
+        int reserved = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get()) {
+                reserved++;
+            }
+        }
+        executor.shutdown();
+
+        assertEquals(50, reserved);
+        assertEquals(0, databaseSeats.get());
+    }
+}
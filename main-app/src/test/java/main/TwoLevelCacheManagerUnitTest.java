@@ -0,0 +1,96 @@
+package main;
+
+import main.config.CacheSpecProperties;
+import main.config.TwoLevelCache;
+import main.config.TwoLevelCacheManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TwoLevelCacheManagerUnitTest {
+
+    private StringRedisTemplate redisTemplate;
+    private TwoLevelCacheManager sender;
+    private TwoLevelCacheManager receiver;
+
+    @BeforeEach
+    void setup() {
+        redisTemplate = Mockito.mock(StringRedisTemplate.class);
+        sender = manager(redisTemplate);
+        receiver = manager(Mockito.mock(StringRedisTemplate.class));
+    }
+
+    @Test
+    void testEvict_OtherInstanceDropsOnlyThatEntry() {
+        UUID evicted = UUID.randomUUID();
+        UUID kept = UUID.randomUUID();
+        TwoLevelCache cache = (TwoLevelCache) receiver.getCache("eventsById");
+        cache.put(evicted, "evicted");
+        cache.put(kept, "kept");
+
+        sender.getCache("eventsById").evict(evicted);
+        receiver.onInvalidation(sentMessage());
+
+        assertNull(cache.getLocalCache().get(evicted));
+        assertEquals("kept", cache.getLocalCache().get(kept, String.class));
+    }
+
+    @Test
+    void testEvict_StringKeysKeepTheirType() {
+        TwoLevelCache cache = (TwoLevelCache) receiver.getCache("eventsById");
+        cache.put("a key", "value");
+
+        sender.getCache("eventsById").evict("a key");
+        receiver.onInvalidation(sentMessage());
+
+        assertNull(cache.getLocalCache().get("a key"));
+    }
+
+    @Test
+    void testClear_OtherInstanceDropsEveryEntry() {
+        TwoLevelCache cache = (TwoLevelCache) receiver.getCache("eventsById");
+        cache.put(UUID.randomUUID(), "value");
+
+        sender.getCache("eventsById").clear();
+        receiver.onInvalidation(sentMessage());
+
+        assertEquals(0, cache.getLocalCache().getNativeCache().estimatedSize());
+    }
+
+    @Test
+    void testInvalidation_OwnMessageIsIgnored() {
+        UUID key = UUID.randomUUID();
+        TwoLevelCache cache = (TwoLevelCache) sender.getCache("eventsById");
+        cache.put(key, "value");
+
+        sender.getCache("eventsById").evict(UUID.randomUUID());
+        sender.onInvalidation(sentMessage());
+
+        assertEquals("value", cache.getLocalCache().get(key, String.class));
+    }
+
+    private String sentMessage() {
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        Mockito.verify(redisTemplate).convertAndSend(Mockito.anyString(), message.capture());
+        return message.getValue();
+    }
+
+    private static TwoLevelCacheManager manager(StringRedisTemplate redisTemplate) {
+        CacheSpecProperties properties = new CacheSpecProperties();
+        properties.getSpecs().put("eventsById", "maximumSize=100");
+        RedisCacheManager remote = Mockito.mock(RedisCacheManager.class);
+        Mockito.when(remote.getCache(Mockito.anyString()))
+                .thenAnswer(invocation -> new ConcurrentMapCache(invocation.getArgument(0)));
+        TwoLevelCacheManager manager = new TwoLevelCacheManager(properties, remote, redisTemplate);
+        manager.initializeCaches();
+        return manager;
+    }
+}
@@ -0,0 +1,92 @@
+package main;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import main.config.TwoLevelCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TwoLevelCacheUnitTest {
+
+    private CaffeineCache local;
+    private ConcurrentMapCache remote;
+    private List<List<Object>> invalidations;
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setup() {
+        local = new CaffeineCache("eventsById", Caffeine.newBuilder().recordStats().build());
+        remote = new ConcurrentMapCache("eventsById");
+        invalidations = new ArrayList<>();
+        cache = new TwoLevelCache(local, remote, (name, key) -> invalidations.add(Arrays.asList(name, key)));
+    }
+
+    @Test
+    void testGet_FallsThroughToRemoteAndPopulatesLocal() {
+        remote.put("key", "value");
+
+        assertEquals("value", cache.get("key", String.class));
+        assertEquals("value", local.get("key", String.class));
+    }
+
+    @Test
+    void testGetWithLoader_LoadsOnceAndWritesBothLevels() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("value", cache.get("key", () -> {
+            loads.incrementAndGet();
+            return "value";
+        }));
+        assertEquals("value", cache.get("key", () -> {
+            loads.incrementAndGet();
+            return "other";
+        }));
+
+        assertEquals(1, loads.get());
+        assertEquals("value", remote.get("key", String.class));
+    }
+
+    @Test
+    void testGetWithLoader_PrefersRemoteOverLoader() {
+        remote.put("key", "shared");
+
+        assertEquals("shared", cache.get("key", () -> "loaded"));
+    }
+
+    @Test
+    void testEvict_ClearsBothLevelsAndBroadcasts() {
+        cache.put("key", "value");
+
+        cache.evict("key");
+
+        assertNull(local.get("key"));
+        assertNull(remote.get("key"));
+        assertEquals(List.of(List.of("eventsById", "key")), invalidations);
+    }
+
+    @Test
+    void testClear_ClearsBothLevelsAndBroadcastsWithoutKey() {
+        cache.put("key", "value");
+
+        cache.clear();
+
+        assertNull(local.get("key"));
+        assertNull(remote.get("key"));
+        assertEquals(List.of(Arrays.asList("eventsById", null)), invalidations);
+    }
+
+    @Test
+    void testGet_WrongType_Throws() {
+        cache.put("key", 42);
+
+        assertThrows(IllegalStateException.class, () -> cache.get("key", String.class));
+    }
+}
@@ -0,0 +1,174 @@
+package main;
+
+import main.config.CacheConfig;
+import main.entities.Event;
+import main.repositories.EventRepository;
+import main.services.UpcomingEventsCache;
+import main.web.dto.EventSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UpcomingEventsCacheUnitTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private UpcomingEventsCache upcomingEventsCache;
+    private SimpleMeterRegistry meterRegistry;
+    private Event event;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        upcomingEventsCache = cache(Runnable::run, Duration.ofMinutes(4));
+
+        event = new Event();
+        event.setId(UUID.randomUUID());
+        event.setName("Concert");
+        event.setStartDate(LocalDateTime.now().plusDays(1));
+        event.setTotalSeats(100);
+        event.setAvailableSeats(100);
+    }
+
+    @Test
+    void testGet_LoadsOnceThenServesFromCache() {
+        Mockito.when(eventRepository.findUpcomingSnapshots(Mockito.any()))
+                .thenReturn(List.of(EventSnapshot.of(event)));
+
+        List<EventSnapshot> first = upcomingEventsCache.get();
+        List<EventSnapshot> second = upcomingEventsCache.get();
+
+        assertEquals(1, first.size());
+        assertSame(first, second);
+        Mockito.verify(eventRepository, Mockito.times(1)).findUpcomingSnapshots(Mockito.any());
+    }
+
+    @Test
+    void testCachedSnapshotsAreNotAffectedByRequestDTOs() {
+        Mockito.when(eventRepository.findUpcomingSnapshots(Mockito.any()))
+                .thenReturn(List.of(EventSnapshot.of(event)));
+
+        upcomingEventsCache.get().get(0).toDTO().setName("Changed");
+
+        assertEquals("Concert", upcomingEventsCache.get().get(0).name());
+    }
+
+    @Test
+    void testInvalidate_ReloadsOnNextRead() {
+        Mockito.when(eventRepository.findUpcomingSnapshots(Mockito.any()))
+                .thenReturn(List.of(EventSnapshot.of(event)));
+
+        upcomingEventsCache.get();
+        upcomingEventsCache.invalidate();
+        upcomingEventsCache.get();
+
+        Mockito.verify(eventRepository, Mockito.times(2)).findUpcomingSnapshots(Mockito.any());
+    }
+
+    @Test
+    void testSeatsChanged_PatchesSnapshotWithoutReload() {
+        Mockito.when(eventRepository.findUpcomingSnapshots(Mockito.any()))
+                .thenReturn(List.of(EventSnapshot.of(event)));
+
+        upcomingEventsCache.get();
+        upcomingEventsCache.seatsChanged(event.getId(), -3);
+        upcomingEventsCache.seatsChanged(UUID.randomUUID(), -5);
+
+        assertEquals(97, upcomingEventsCache.get().get(0).availableSeats());
+        Mockito.verify(eventRepository, Mockito.times(1)).findUpcomingSnapshots(Mockito.any());
+    }
+
+    @Test
+    void testRemoveAll_DropsArchivedSnapshotsWithoutReload() {
+        Mockito.when(eventRepository.findUpcomingSnapshots(Mockito.any()))
+                .thenReturn(List.of(EventSnapshot.of(event)));
+
+        upcomingEventsCache.get();
+        upcomingEventsCache.removeAll(List.of(event.getId()));
+
+        assertTrue(upcomingEventsCache.get().isEmpty());
+        Mockito.verify(eventRepository, Mockito.times(1)).findUpcomingSnapshots(Mockito.any());
+    }
+
+    @Test
+    void testSeatsChanged_NothingCached_DoesNotLoad() {
+        upcomingEventsCache.seatsChanged(event.getId(), -3);
+
+        Mockito.verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void testGet_StaleListingServedWhileRefreshedInBackground() {
+        List<Runnable> refreshes = new ArrayList<>();
+        upcomingEventsCache = cache(refreshes::add, Duration.ZERO);
+        Event added = new Event();
+        added.setId(UUID.randomUUID());
+        added.setName("Festival");
+        added.setStartDate(LocalDateTime.now().plusDays(2));
+        Mockito.when(eventRepository.findUpcomingSnapshots(Mockito.any()))
+                .thenReturn(List.of(EventSnapshot.of(event)))
+                .thenReturn(List.of(EventSnapshot.of(event), EventSnapshot.of(added)));
+
+        upcomingEventsCache.get();
+        assertEquals(1, upcomingEventsCache.get().size());
+        assertEquals(1, upcomingEventsCache.get().size());
+
+        assertEquals(1, refreshes.size());
+        refreshes.get(0).run();
+
+        assertEquals(2, upcomingEventsCache.get().size());
+        assertEquals(3, meterRegistry.counter("events.upcoming.cache.stale.serves").count());
+        assertEquals(1, meterRegistry.timer("events.upcoming.cache.load", "mode", "refresh-ahead").count());
+    }
+
+    @Test
+    void testRefresh_StartedBeforeInvalidation_IsDiscarded() {
+        List<Runnable> refreshes = new ArrayList<>();
+        upcomingEventsCache = cache(refreshes::add, Duration.ZERO);
+        Mockito.when(eventRepository.findUpcomingSnapshots(Mockito.any()))
+                .thenReturn(List.of(EventSnapshot.of(event)));
+
+        upcomingEventsCache.get();
+        upcomingEventsCache.get();
+        upcomingEventsCache.invalidate();
+        refreshes.get(0).run();
+        upcomingEventsCache.get();
+
+        Mockito.verify(eventRepository, Mockito.times(3)).findUpcomingSnapshots(Mockito.any());
+    }
+
+    @Test
+    void testRefresh_FailureKeepsServingPreviousListing() {
+        upcomingEventsCache = cache(Runnable::run, Duration.ZERO);
+        Mockito.when(eventRepository.findUpcomingSnapshots(Mockito.any()))
+                .thenReturn(List.of(EventSnapshot.of(event)))
+                .thenThrow(new IllegalStateException("database down"));
+
+        upcomingEventsCache.get();
+
+        assertEquals(1, upcomingEventsCache.get().size());
+        assertEquals(1, meterRegistry.counter("events.upcoming.cache.refresh.failures").count());
+    }
+
+    private UpcomingEventsCache cache(Executor refreshExecutor, Duration refreshAfter) {
+        return new UpcomingEventsCache(eventRepository,
+                new ConcurrentMapCacheManager(CacheConfig.UPCOMING_EVENTS),
+                refreshExecutor, meterRegistry, refreshAfter);
+    }
+}
@@ -0,0 +1,79 @@
+package main;
+
+import main.config.CacheConfig;
+import main.entities.Role;
+import main.entities.User;
+import main.repositories.UserRepository;
+import main.services.UserLookupCache;
+import main.web.dto.UserSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UserLookupCacheUnitTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserLookupCache userLookupCache;
+    private User user;
+
+    @BeforeEach
+    void setup() {
+        userLookupCache = new UserLookupCache(userRepository,
+                new ConcurrentMapCacheManager(CacheConfig.USERS_BY_ID));
+
+        user = new User();
+        user.setId(UUID.randomUUID());
+        user.setUsername("alice");
+        user.setPassword("hash");
+        user.setRole(Role.USER);
+        user.setActive(true);
+    }
+
+    @Test
+    void testFindById_LoadsOnceAndOmitsPassword() {
+        Mockito.when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+
+        UserSnapshot first = userLookupCache.findById(user.getId()).orElseThrow();
+        UserSnapshot second = userLookupCache.findById(user.getId()).orElseThrow();
+
+        assertSame(first, second);
+        assertEquals("alice", first.username());
+        assertFalse(first.toString().contains("hash"));
+        Mockito.verify(userRepository, Mockito.times(1)).findById(user.getId());
+    }
+
+    @Test
+    void testFindById_UnknownUserIsNotCached() {
+        UUID unknown = UUID.randomUUID();
+        Mockito.when(userRepository.findById(unknown)).thenReturn(Optional.empty());
+
+        assertTrue(userLookupCache.findById(unknown).isEmpty());
+        assertTrue(userLookupCache.findById(unknown).isEmpty());
+
+        Mockito.verify(userRepository, Mockito.times(2)).findById(unknown);
+    }
+
+    @Test
+    void testEvict_ReloadsBlockedUser() {
+        Mockito.when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        userLookupCache.findById(user.getId());
+
+        user.setActive(false);
+        userLookupCache.evict(user.getId());
+
+        assertFalse(userLookupCache.findById(user.getId()).orElseThrow().active());
+        Mockito.verify(userRepository, Mockito.times(2)).findById(user.getId());
+    }
+}
@@ -0,0 +1,9 @@
+-- What ddl-auto=update created before Flyway managed the schema, constraint names included.
+create table users (age integer, active bit, created_at datetime(6), id binary(16) not null, email varchar(255) not null, name varchar(255), password varchar(255), role enum ('USER','ADMIN') not null, username varchar(255) not null, primary key (id)) engine=InnoDB;
+create table events (archived bit not null, available_seats integer not null, price float(53) not null, total_seats integer not null, end_date datetime(6) not null, start_date datetime(6) not null, creator_id binary(16), id binary(16) not null, description varchar(500) not null, location varchar(255) not null, name varchar(255) not null, venue varchar(255) not null, primary key (id)) engine=InnoDB;
+create table bookings (seats_booked integer not null, total_price float(53) not null, booked_on datetime(6) not null, event_id binary(16) not null, id binary(16) not null, user_id binary(16) not null, qr_code_base64 longtext, status enum ('PENDING','CONFIRMED','CANCELLED') not null, primary key (id)) engine=InnoDB;
+alter table users add constraint UK6dotkott2kjsp8vw4d0m25fb7 unique (email);
+alter table users add constraint UKr43af9ap4edm43mmtq01oddj6 unique (username);
+alter table events add constraint FK1jsvb4t1wvdk5ae5v2n8x5ekm foreign key (creator_id) references users (id);
+alter table bookings add constraint FKeyog2oic85xg7hsu2je2lx3s6 foreign key (user_id) references users (id);
+alter table bookings add constraint FKpbhd4xhfv2ve8wvgqo9d2xjbv foreign key (event_id) references events (id);
@@ -1,12 +1,39 @@
 package main.repositories;
 
+import jakarta.persistence.QueryHint;
 import main.entity.Booking;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, UUID> {
 
+    @Query("""
+               SELECT b.eventId AS eventId,
+                      SUM(b.seatsBooked) AS seatsBooked,
+                      SUM(b.price) AS revenue,
+                      COUNT(b) AS bookings
+               FROM Booking b
+               GROUP BY b.eventId
+            """)
+    List<EventBookingTotals> sumByEvent();
+
+    List<Booking> findAllByOrderByIdAsc(Limit limit);
+
+    List<Booking> findByIdGreaterThanOrderByIdAsc(UUID after, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT b FROM Booking b")
+    Stream<Booking> streamAll();
 }
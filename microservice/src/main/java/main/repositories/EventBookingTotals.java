@@ -0,0 +1,13 @@
+package main.repositories;
+
+import java.util.UUID;
+
+public interface EventBookingTotals {
+    UUID getEventId();
+
+    long getSeatsBooked();
+
+    double getRevenue();
+
+    long getBookings();
+}
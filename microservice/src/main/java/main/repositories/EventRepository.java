@@ -1,11 +1,29 @@
 package main.repositories;
 
+import jakarta.persistence.QueryHint;
 import main.entity.Event;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface EventRepository extends JpaRepository<Event, UUID> {
+
+    List<Event> findAllByOrderByIdAsc(Limit limit);
+
+    List<Event> findByIdGreaterThanOrderByIdAsc(UUID after, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e FROM Event e")
+    Stream<Event> streamAll();
 }
@@ -3,9 +3,11 @@ package main.service;
 import lombok.RequiredArgsConstructor;
 import main.entity.Booking;
 import main.repositories.BookingRepository;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -20,6 +22,17 @@ public class BookingService {
         return bookingRepository.findAll();
     }
 
+    public List<Booking> findPage(UUID after, int size) {
+        Limit limit = Limit.of(size);
+        return after == null
+                ? bookingRepository.findAllByOrderByIdAsc(limit)
+                : bookingRepository.findByIdGreaterThanOrderByIdAsc(after, limit);
+    }
+
+    public boolean existsById(UUID id) {
+        return bookingRepository.existsById(id);
+    }
+
     public Object count() {
         return bookingRepository.count();
     }
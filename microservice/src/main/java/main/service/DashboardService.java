@@ -0,0 +1,177 @@
+package main.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import main.entity.Booking;
+import main.entity.Event;
+import main.repositories.BookingRepository;
+import main.repositories.EventBookingTotals;
+import main.repositories.EventRepository;
+import main.repositories.UserRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Keeps the dashboard figures pre-aggregated in memory. The store is rebuilt once
+ * with grouped queries on startup and is then updated incrementally on every
+ * ingested user, event and booking, so serving the dashboard never scans bookings.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardService {
+
+    static final int TOP_EVENTS_LIMIT = 3;
+    static final int MIN_WARNING_SEATS = 1;
+    static final int MAX_WARNING_SEATS = 5;
+
+    private static final Comparator<EventStats> BY_SEATS_BOOKED = Comparator
+            .comparingLong(EventStats::seatsBooked).reversed()
+            .thenComparing(EventStats::id);
+
+    private final UserRepository userRepository;
+    private final EventRepository eventRepository;
+    private final BookingRepository bookingRepository;
+
+    private final Map<UUID, EventStats> statsByEvent = new ConcurrentHashMap<>();
+    private final NavigableSet<EventStats> ranking = new ConcurrentSkipListSet<>(BY_SEATS_BOOKED);
+    private final Map<UUID, EventStats> seatWarnings = new ConcurrentHashMap<>();
+
+    private volatile long totalUsers;
+    private volatile long totalEvents;
+    private volatile long totalBookings;
+    private volatile double totalRevenue;
+
+    @PostConstruct
+    public synchronized void rebuild() {
+        statsByEvent.clear();
+        ranking.clear();
+        seatWarnings.clear();
+
+        long bookings = 0;
+        double revenue = 0;
+        for (EventBookingTotals totals : bookingRepository.sumByEvent()) {
+            bookings += totals.getBookings();
+            revenue += totals.getRevenue();
+            if (totals.getEventId() != null) {
+                statsByEvent.put(totals.getEventId(),
+                        new EventStats(totals.getEventId(), null, 0, totals.getSeatsBooked(), false));
+            }
+        }
+
+        List<Event> events = eventRepository.findAll();
+        for (Event event : events) {
+            apply(event);
+        }
+
+        totalUsers = userRepository.count();
+        totalEvents = events.size();
+        totalBookings = bookings;
+        totalRevenue = revenue;
+
+        log.info("Dashboard aggregates rebuilt: {} events, {} bookings", totalEvents, totalBookings);
+    }
+
+    public synchronized void recordUser() {
+        totalUsers++;
+    }
+
+    public synchronized void recordEvent(Event event, boolean isNew) {
+        if (isNew) {
+            totalEvents++;
+        }
+        apply(event);
+    }
+
+    public synchronized void recordBooking(Booking booking) {
+        totalBookings++;
+        totalRevenue += booking.getPrice();
+
+        if (booking.getEventId() == null) {
+            return;
+        }
+        EventStats previous = statsByEvent.get(booking.getEventId());
+        EventStats next = previous != null
+                ? previous.withSeatsBooked(previous.seatsBooked() + booking.getSeatsBooked())
+                : new EventStats(booking.getEventId(), null, 0, booking.getSeatsBooked(), false);
+        replace(previous, next);
+    }
+
+    public Map<String, Object> getDashboard() {
+        Map<String, Object> dashboard = new HashMap<>();
+        dashboard.put("totalUsers", totalUsers);
+        dashboard.put("totalEvents", totalEvents);
+        dashboard.put("totalBookings", totalBookings);
+        dashboard.put("totalRevenue", totalRevenue);
+
+        List<Map<String, Object>> topEvents = new ArrayList<>(TOP_EVENTS_LIMIT);
+        for (EventStats stats : ranking) {
+            if (topEvents.size() == TOP_EVENTS_LIMIT) {
+                break;
+            }
+            Map<String, Object> m = new HashMap<>();
+            m.put("name", stats.name());
+            m.put("totalSeatsBooked", stats.seatsBooked());
+            topEvents.add(m);
+        }
+        dashboard.put("topEvents", topEvents);
+
+        List<Map<String, Object>> warnings = seatWarnings.values().stream()
+                .map(stats -> {
+                    Map<String, Object> m = new HashMap<>();
+                    m.put("eventName", stats.name());
+                    m.put("freeSeats", stats.freeSeats());
+                    return m;
+                })
+                .toList();
+        dashboard.put("seatWarnings", warnings);
+
+        return dashboard;
+    }
+
+    private void apply(Event event) {
+        EventStats previous = statsByEvent.get(event.getId());
+        long seatsBooked = previous != null ? previous.seatsBooked() : 0;
+        replace(previous, new EventStats(event.getId(), event.getName(), event.getTotalSeats(), seatsBooked, true));
+    }
+
+    private void replace(EventStats previous, EventStats next) {
+        if (previous != null && previous.registered()) {
+            ranking.remove(previous);
+        }
+        statsByEvent.put(next.id(), next);
+
+        if (!next.registered()) {
+            return;
+        }
+        ranking.add(next);
+
+        long freeSeats = next.freeSeats();
+        if (freeSeats >= MIN_WARNING_SEATS && freeSeats <= MAX_WARNING_SEATS) {
+            seatWarnings.put(next.id(), next);
+        } else {
+            seatWarnings.remove(next.id());
+        }
+    }
+
+    record EventStats(UUID id, String name, int totalSeats, long seatsBooked, boolean registered) {
+
+        long freeSeats() {
+            return totalSeats - seatsBooked;
+        }
+
+        EventStats withSeatsBooked(long seatsBooked) {
+            return new EventStats(id, name, totalSeats, seatsBooked, registered);
+        }
+    }
+}
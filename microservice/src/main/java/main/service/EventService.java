@@ -3,9 +3,11 @@ package main.service;
 import lombok.RequiredArgsConstructor;
 import main.entity.Event;
 import main.repositories.EventRepository;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -20,6 +22,17 @@ public class EventService {
         return eventRepository.findAll();
     }
 
+    public List<Event> findPage(UUID after, int size) {
+        Limit limit = Limit.of(size);
+        return after == null
+                ? eventRepository.findAllByOrderByIdAsc(limit)
+                : eventRepository.findByIdGreaterThanOrderByIdAsc(after, limit);
+    }
+
+    public boolean existsById(UUID id) {
+        return eventRepository.existsById(id);
+    }
+
     public Object count() {
         return eventRepository.count();
     }
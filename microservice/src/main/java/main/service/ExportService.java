@@ -0,0 +1,100 @@
+package main.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import main.repositories.BookingRepository;
+import main.repositories.EventRepository;
+import main.repositories.UserRepository;
+import main.web.dto.BookingDTO;
+import main.web.dto.EventDTO;
+import main.web.dto.UserDTO;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Writes whole tables as NDJSON from a database cursor. Rows are detached as soon
+ * as they are written so the persistence context, and the heap, stay flat however
+ * large the export is.
+ */
+@Slf4j
+@Service
+public class ExportService {
+
+    static final int FLUSH_EVERY = 500;
+
+    private final EventRepository eventRepository;
+    private final BookingRepository bookingRepository;
+    private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectWriter writer;
+
+    public ExportService(EventRepository eventRepository,
+                         BookingRepository bookingRepository,
+                         UserRepository userRepository,
+                         EntityManager entityManager,
+                         PlatformTransactionManager transactionManager,
+                         ObjectMapper objectMapper) {
+        this.eventRepository = eventRepository;
+        this.bookingRepository = bookingRepository;
+        this.userRepository = userRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    public long exportEvents(OutputStream out) {
+        return export(out, eventRepository::streamAll,
+                e -> new EventDTO(e.getId(), e.getName(), e.getTotalSeats(), e.getPrice()));
+    }
+
+    public long exportBookings(OutputStream out) {
+        return export(out, bookingRepository::streamAll,
+                b -> new BookingDTO(b.getId(), b.getEventId(), b.getUserId(), b.getSeatsBooked(), b.getPrice()));
+    }
+
+    public long exportUsers(OutputStream out) {
+        return export(out, userRepository::streamAll,
+                u -> new UserDTO(u.getId(), u.getUsername()));
+    }
+
+    private <E, D> long export(OutputStream out, Supplier<Stream<E>> source, Function<E, D> mapper) {
+        Long written = transactionTemplate.execute(status -> {
+            long count = 0;
+            try (Stream<E> rows = source.get();
+                 JsonGenerator generator = writer.createGenerator(out)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+
+                for (Iterator<E> it = rows.iterator(); it.hasNext(); ) {
+                    E row = it.next();
+                    writer.writeValue(generator, mapper.apply(row));
+                    generator.writeRaw('\n');
+                    entityManager.detach(row);
+                    if (++count % FLUSH_EVERY == 0) {
+                        generator.flush();
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not write export after " + count + " rows", e);
+            }
+            return count;
+        });
+        log.info("Exported {} rows", written);
+        return written == null ? 0 : written;
+    }
+}
@@ -0,0 +1,24 @@
+package main.service;
+
+import java.util.Iterator;
+import java.util.List;
+
+public record IngestionItem<T>(int index, T value, String error) {
+
+    public static <T> Iterator<IngestionItem<T>> of(List<T> values) {
+        Iterator<T> it = values.iterator();
+        return new Iterator<>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public IngestionItem<T> next() {
+                return new IngestionItem<>(index++, it.next(), null);
+            }
+        };
+    }
+}
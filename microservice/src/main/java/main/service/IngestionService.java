@@ -0,0 +1,301 @@
+package main.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import main.entity.Booking;
+import main.entity.Event;
+import main.web.dto.BookingDTO;
+import main.web.dto.EventDTO;
+import main.web.dto.IngestionItemResult;
+import main.web.dto.IngestionResponse;
+import main.web.dto.IngestionStatus;
+import main.web.dto.UserDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Bulk ingestion for backfills and outbox catch-up. Items are written in chunks,
+ * one transaction per chunk, with JDBC batch statements; the dashboard aggregates
+ * are only updated once a chunk has committed.
+ */
+@Slf4j
+@Service
+public class IngestionService {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DashboardService dashboardService;
+    private final int chunkSize;
+    private final MeterRegistry meterRegistry;
+
+    public IngestionService(NamedParameterJdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            DashboardService dashboardService,
+                            @Value("${ingestion.chunk-size:1000}") int chunkSize,
+                            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.dashboardService = dashboardService;
+        this.chunkSize = chunkSize;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public IngestionResponse ingestBookings(Iterator<IngestionItem<BookingDTO>> items) {
+        return ingest("booking", items, this::writeBookings);
+    }
+
+    public IngestionResponse ingestEvents(Iterator<IngestionItem<EventDTO>> items) {
+        return ingest("event", items, this::writeEvents);
+    }
+
+    public IngestionResponse ingestUsers(Iterator<IngestionItem<UserDTO>> items) {
+        return ingest("user", items, this::writeUsers);
+    }
+
+    private <T> IngestionResponse ingest(String type, Iterator<IngestionItem<T>> items, ChunkWriter<T> writer) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        IngestionResponse response = new IngestionResponse();
+        List<IngestionItem<T>> chunk = new ArrayList<>(chunkSize);
+
+        try {
+            while (items.hasNext()) {
+                IngestionItem<T> item = items.next();
+                response.setReceived(response.getReceived() + 1);
+                if (item.error() != null) {
+                    response.add(item.index(), null, IngestionStatus.INVALID, item.error());
+                    continue;
+                }
+                chunk.add(item);
+                if (chunk.size() == chunkSize) {
+                    writeChunk(chunk, writer, response);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                writeChunk(chunk, writer, response);
+            }
+        } catch (RuntimeException e) {
+            outcome = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer("analytics.ingestion", "type", type, "outcome", outcome));
+            response.getTotals().forEach((status, count) -> meterRegistry
+                    .counter("analytics.ingestion.items", "type", type, "status", status.name().toLowerCase())
+                    .increment(count));
+        }
+
+        response.getRejected().sort(Comparator.comparingInt(IngestionItemResult::getIndex));
+        log.info("Ingested {} items: {}", response.getReceived(), response.getTotals());
+        return response;
+    }
+
+    private <T> void writeChunk(List<IngestionItem<T>> chunk, ChunkWriter<T> writer, IngestionResponse response) {
+        ChunkOutcome outcome;
+        try {
+            outcome = transactionTemplate.execute(status -> writer.write(chunk));
+        } catch (RuntimeException e) {
+            log.error("Ingestion chunk of {} items failed", chunk.size(), e);
+            for (IngestionItem<T> item : chunk) {
+                response.add(item.index(), null, IngestionStatus.FAILED, e.getMessage());
+            }
+            return;
+        }
+
+        outcome.results().forEach(result ->
+                response.add(result.index(), result.id(), result.status(), result.message()));
+        outcome.afterCommit().forEach(Runnable::run);
+    }
+
+    private ChunkOutcome writeBookings(List<IngestionItem<BookingDTO>> chunk) {
+        ChunkOutcome outcome = new ChunkOutcome();
+        List<IngestionItem<BookingDTO>> valid = new ArrayList<>(chunk.size());
+        for (IngestionItem<BookingDTO> item : chunk) {
+            BookingDTO dto = item.value();
+            if (dto.getId() == null) {
+                outcome.add(item.index(), null, IngestionStatus.INVALID, "Missing id");
+            } else if (dto.getPrice() < 0) {
+                outcome.add(item.index(), dto.getId(), IngestionStatus.INVALID, "Price cannot be negative");
+            } else {
+                valid.add(item);
+            }
+        }
+
+        Set<UUID> seen = findExistingIds("booking", valid, BookingDTO::getId);
+        List<BookingDTO> inserts = new ArrayList<>(valid.size());
+        for (IngestionItem<BookingDTO> item : valid) {
+            BookingDTO dto = item.value();
+            if (seen.add(dto.getId())) {
+                inserts.add(dto);
+                outcome.add(item.index(), dto.getId(), IngestionStatus.CREATED, null);
+                outcome.afterCommit(() -> dashboardService.recordBooking(new Booking(
+                        dto.getId(), dto.getEventId(), dto.getUserId(), dto.getSeatsBooked(), dto.getPrice())));
+            } else {
+                outcome.add(item.index(), dto.getId(), IngestionStatus.DUPLICATE, null);
+            }
+        }
+
+        batchUpdate("INSERT INTO booking (id, event_id, user_id, seats_booked, price) "
+                        + "VALUES (:id, :eventId, :userId, :seatsBooked, :price)",
+                inserts, dto -> new MapSqlParameterSource()
+                        .addValue("id", dto.getId())
+                        .addValue("eventId", dto.getEventId())
+                        .addValue("userId", dto.getUserId())
+                        .addValue("seatsBooked", dto.getSeatsBooked())
+                        .addValue("price", dto.getPrice()));
+        return outcome;
+    }
+
+    private ChunkOutcome writeEvents(List<IngestionItem<EventDTO>> chunk) {
+        ChunkOutcome outcome = new ChunkOutcome();
+        List<IngestionItem<EventDTO>> valid = new ArrayList<>(chunk.size());
+        for (IngestionItem<EventDTO> item : chunk) {
+            EventDTO dto = item.value();
+            if (dto.getId() == null) {
+                outcome.add(item.index(), null, IngestionStatus.INVALID, "Missing id");
+            } else if (dto.getTotalSeats() < 0) {
+                outcome.add(item.index(), dto.getId(), IngestionStatus.INVALID, "Total seats cannot be negative");
+            } else {
+                valid.add(item);
+            }
+        }
+
+        Set<UUID> existing = findExistingIds("event", valid, EventDTO::getId);
+        Map<UUID, EventDTO> latest = upsertResults(valid, existing, outcome, EventDTO::getId);
+
+        List<EventDTO> inserts = new ArrayList<>();
+        List<EventDTO> updates = new ArrayList<>();
+        latest.forEach((id, dto) -> {
+            boolean isNew = !existing.contains(id);
+            (isNew ? inserts : updates).add(dto);
+            outcome.afterCommit(() -> dashboardService.recordEvent(
+                    new Event(dto.getId(), dto.getName(), dto.getTotalSeats(), dto.getPrice()), isNew));
+        });
+
+        Function<EventDTO, MapSqlParameterSource> params = dto -> new MapSqlParameterSource()
+                .addValue("id", dto.getId())
+                .addValue("name", dto.getName())
+                .addValue("totalSeats", dto.getTotalSeats())
+                .addValue("price", dto.getPrice());
+        batchUpdate("INSERT INTO event (id, name, total_seats, price) VALUES (:id, :name, :totalSeats, :price)",
+                inserts, params);
+        batchUpdate("UPDATE event SET name = :name, total_seats = :totalSeats, price = :price WHERE id = :id",
+                updates, params);
+        return outcome;
+    }
+
+    private ChunkOutcome writeUsers(List<IngestionItem<UserDTO>> chunk) {
+        ChunkOutcome outcome = new ChunkOutcome();
+        List<IngestionItem<UserDTO>> valid = new ArrayList<>(chunk.size());
+        for (IngestionItem<UserDTO> item : chunk) {
+            if (item.value().getId() == null) {
+                outcome.add(item.index(), null, IngestionStatus.INVALID, "Missing id");
+            } else {
+                valid.add(item);
+            }
+        }
+
+        Set<UUID> existing = findExistingIds("app_user", valid, UserDTO::getId);
+        Map<UUID, UserDTO> latest = upsertResults(valid, existing, outcome, UserDTO::getId);
+
+        List<UserDTO> inserts = new ArrayList<>();
+        List<UserDTO> updates = new ArrayList<>();
+        latest.forEach((id, dto) -> {
+            if (existing.contains(id)) {
+                updates.add(dto);
+            } else {
+                inserts.add(dto);
+                outcome.afterCommit(dashboardService::recordUser);
+            }
+        });
+
+        Function<UserDTO, MapSqlParameterSource> params = dto -> new MapSqlParameterSource()
+                .addValue("id", dto.getId())
+                .addValue("username", dto.getUsername());
+        batchUpdate("INSERT INTO app_user (id, username) VALUES (:id, :username)", inserts, params);
+        batchUpdate("UPDATE app_user SET username = :username WHERE id = :id", updates, params);
+        return outcome;
+    }
+
+    private static <T> Map<UUID, T> upsertResults(List<IngestionItem<T>> items, Set<UUID> existing,
+                                                  ChunkOutcome outcome, Function<T, UUID> idOf) {
+        Map<UUID, T> latest = new LinkedHashMap<>();
+        for (IngestionItem<T> item : items) {
+            UUID id = idOf.apply(item.value());
+            boolean created = !existing.contains(id) && !latest.containsKey(id);
+            latest.put(id, item.value());
+            outcome.add(item.index(), id, created ? IngestionStatus.CREATED : IngestionStatus.UPDATED, null);
+        }
+        return latest;
+    }
+
+    private <T> Set<UUID> findExistingIds(String table, List<IngestionItem<T>> items, Function<T, UUID> idOf) {
+        if (items.isEmpty()) {
+            return new HashSet<>();
+        }
+        Set<UUID> ids = new HashSet<>();
+        for (IngestionItem<T> item : items) {
+            ids.add(idOf.apply(item.value()));
+        }
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT id FROM " + table + " WHERE id IN (:ids)",
+                new MapSqlParameterSource("ids", ids),
+                UUID.class));
+    }
+
+    private <T> void batchUpdate(String sql, List<T> rows, Function<T, MapSqlParameterSource> params) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        MapSqlParameterSource[] batch = new MapSqlParameterSource[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            batch[i] = params.apply(rows.get(i));
+        }
+        jdbcTemplate.batchUpdate(sql, batch);
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter<T> {
+        ChunkOutcome write(List<IngestionItem<T>> chunk);
+    }
+
+    private record ItemResult(int index, UUID id, IngestionStatus status, String message) {
+    }
+
+    private static final class ChunkOutcome {
+        private final List<ItemResult> results = new ArrayList<>();
+        private final List<Runnable> afterCommit = new ArrayList<>();
+
+        void add(int index, UUID id, IngestionStatus status, String message) {
+            results.add(new ItemResult(index, id, status, message));
+        }
+
+        void afterCommit(Runnable action) {
+            afterCommit.add(action);
+        }
+
+        List<ItemResult> results() {
+            return results;
+        }
+
+        List<Runnable> afterCommit() {
+            return afterCommit;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package main.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads newline-delimited JSON one line at a time, so a stream of any size is
+ * ingested with constant memory. A malformed line becomes an invalid item
+ * instead of aborting the whole stream.
+ */
+public class NdjsonReader<T> implements Iterator<IngestionItem<T>> {
+
+    private final BufferedReader reader;
+    private final ObjectReader objectReader;
+    private String nextLine;
+    private int index;
+
+    public NdjsonReader(InputStream input, ObjectMapper objectMapper, Class<T> type) {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        this.objectReader = objectMapper.readerFor(type);
+        advance();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return nextLine != null;
+    }
+
+    @Override
+    public IngestionItem<T> next() {
+        if (nextLine == null) {
+            throw new NoSuchElementException();
+        }
+        String line = nextLine;
+        int lineIndex = index++;
+        advance();
+
+        try {
+            return new IngestionItem<>(lineIndex, objectReader.readValue(line), null);
+        } catch (JsonProcessingException e) {
+            return new IngestionItem<>(lineIndex, null, "Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private void advance() {
+        try {
+            do {
+                nextLine = reader.readLine();
+            } while (nextLine != null && nextLine.isBlank());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
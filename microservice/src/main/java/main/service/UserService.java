@@ -3,9 +3,11 @@ package main.service;
 import lombok.RequiredArgsConstructor;
 import main.entity.User;
 import main.repositories.UserRepository;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -20,6 +22,17 @@ public class UserService {
         return userRepository.findAll();
     }
 
+    public List<User> findPage(UUID after, int size) {
+        Limit limit = Limit.of(size);
+        return after == null
+                ? userRepository.findAllByOrderByIdAsc(limit)
+                : userRepository.findByIdGreaterThanOrderByIdAsc(after, limit);
+    }
+
+    public boolean existsById(UUID id) {
+        return userRepository.existsById(id);
+    }
+
     public Object count() {
         return userRepository.count();
     }
@@ -1,5 +1,7 @@
 package main.web;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import main.entity.Booking;
@@ -7,82 +9,50 @@ import main.entity.Event;
 import main.entity.User;
 import main.exceptions.InvalidEventDataException;
 import main.service.BookingService;
+import main.service.DashboardService;
 import main.service.EventService;
+import main.service.ExportService;
+import main.service.IngestionItem;
+import main.service.IngestionService;
+import main.service.NdjsonReader;
 import main.service.UserService;
 import main.web.dto.BookingDTO;
 import main.web.dto.EventDTO;
+import main.web.dto.IngestionResponse;
+import main.web.dto.KeysetPage;
 import main.web.dto.UserDTO;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.HashMap;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
 @RestController
 @RequestMapping("/api")
+@Timed("analytics.api")
 @RequiredArgsConstructor
 public class AnalyticsController {
 
+    static final int MAX_PAGE_SIZE = 1000;
+
     private final UserService userService;
     private final EventService eventService;
     private final BookingService bookingService;
+    private final DashboardService dashboardService;
+    private final IngestionService ingestionService;
+    private final ExportService exportService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping("/dashboard")
     public Map<String, Object> getDashboard() {
         log.info("Dashboard requested");
-
-        Map<String, Object> dashboard = new HashMap<>();
-        dashboard.put("totalUsers", userService.count());
-        dashboard.put("totalEvents", eventService.count());
-        dashboard.put("totalBookings", bookingService.count());
-
-        double totalRevenue = bookingService.findAll().stream()
-                .mapToDouble(Booking::getPrice).sum();
-        dashboard.put("totalRevenue", totalRevenue);
-
-        List<Map<String, Object>> topEvents = eventService.findAll().stream()
-                .map(e -> {
-                    int bookedSeats = bookingService.findAll().stream()
-                            .filter(b -> b.getEventId().equals(e.getId()))
-                            .mapToInt(Booking::getSeatsBooked)
-                            .sum();
-                    Map<String, Object> m = new HashMap<>();
-                    m.put("name", e.getName());
-                    m.put("totalSeatsBooked", bookedSeats);
-                    return m;
-                })
-                .sorted((a, b) -> ((Integer) b.get("totalSeatsBooked")).compareTo((Integer) a.get("totalSeatsBooked")))
-                .limit(3)
-                .toList();
-
-        dashboard.put("topEvents", topEvents);
-
-        Map<UUID, Integer> seatsByEvent = bookingService.findAll().stream()
-                .collect(Collectors.groupingBy(
-                        Booking::getEventId,
-                        Collectors.summingInt(Booking::getSeatsBooked)
-                ));
-
-        List<Map<String, Object>> seatWarnings = eventService.findAll().stream()
-                .map(e -> {
-                    int booked = seatsByEvent.getOrDefault(e.getId(), 0);
-                    int freeSeats = e.getTotalSeats() - booked;
-                    Map<String, Object> m = new HashMap<>();
-                    m.put("eventName", e.getName());
-                    m.put("freeSeats", freeSeats);
-                    return m;
-                })
-                .filter(m -> {
-                    int freeSeats = (Integer) m.get("freeSeats");
-                    return freeSeats >= 1 && freeSeats <= 5;
-                })
-                .toList();
-
-        dashboard.put("seatWarnings", seatWarnings);
-
+        Map<String, Object> dashboard = dashboardService.getDashboard();
         log.info("Dashboard generated successfully");
         return dashboard;
     }
@@ -100,6 +70,21 @@ public class AnalyticsController {
                 .collect(Collectors.toList());
     }
 
+    @GetMapping("/events/page")
+    public KeysetPage<EventDTO> getEventsPage(@RequestParam(required = false) UUID after,
+                                              @RequestParam(defaultValue = "100") int size) {
+        log.info("Fetching events page after {}", after);
+        return page(eventService.findPage(after, checkPageSize(size) + 1), size,
+                event -> new EventDTO(event.getId(), event.getName(), event.getTotalSeats(), event.getPrice()),
+                EventDTO::getId);
+    }
+
+    @GetMapping(value = "/events/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody exportEvents() {
+        log.info("Exporting events");
+        return exportService::exportEvents;
+    }
+
     @PostMapping("/events")
     public void addEvent(@RequestBody EventDTO dto) {
         log.info("Adding event '{}' with id {}", dto.getName(), dto.getId());
@@ -109,10 +94,24 @@ public class AnalyticsController {
         }
 
         Event event = new Event(dto.getId(), dto.getName(), dto.getTotalSeats(), dto.getPrice());
+        boolean isNew = !eventService.existsById(dto.getId());
         eventService.save(event);
+        dashboardService.recordEvent(event, isNew);
         log.info("Event '{}' added successfully", dto.getName());
     }
 
+    @PostMapping(value = "/events/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public IngestionResponse addEvents(@RequestBody List<EventDTO> dtos) {
+        log.info("Adding batch of {} events", dtos.size());
+        return ingestionService.ingestEvents(IngestionItem.of(dtos));
+    }
+
+    @PostMapping(value = "/events/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public IngestionResponse addEventsStream(InputStream body) {
+        log.info("Adding event stream");
+        return ingestionService.ingestEvents(new NdjsonReader<>(body, objectMapper, EventDTO.class));
+    }
+
     @GetMapping("/bookings")
     public List<BookingDTO> getAllBookings() {
         log.info("Fetching all bookings");
@@ -127,6 +126,21 @@ public class AnalyticsController {
                 .collect(Collectors.toList());
     }
 
+    @GetMapping("/bookings/page")
+    public KeysetPage<BookingDTO> getBookingsPage(@RequestParam(required = false) UUID after,
+                                                  @RequestParam(defaultValue = "100") int size) {
+        log.info("Fetching bookings page after {}", after);
+        return page(bookingService.findPage(after, checkPageSize(size) + 1), size,
+                b -> new BookingDTO(b.getId(), b.getEventId(), b.getUserId(), b.getSeatsBooked(), b.getPrice()),
+                BookingDTO::getId);
+    }
+
+    @GetMapping(value = "/bookings/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody exportBookings() {
+        log.info("Exporting bookings");
+        return exportService::exportBookings;
+    }
+
     @PostMapping("/bookings")
     public void confirmBooking(@RequestBody BookingDTO dto) {
         log.info("Confirming booking with id {}", dto.getId());
@@ -135,11 +149,29 @@ public class AnalyticsController {
             throw new IllegalArgumentException("Price cannot be negative");
         }
 
+        if (bookingService.existsById(dto.getId())) {
+            log.info("Booking with id {} already recorded, skipping", dto.getId());
+            return;
+        }
+
         Booking booking = new Booking(dto.getId(), dto.getEventId(), dto.getUserId(), dto.getSeatsBooked(), dto.getPrice());
         bookingService.save(booking);
+        dashboardService.recordBooking(booking);
         log.info("Booking with id {} confirmed successfully", dto.getId());
     }
 
+    @PostMapping(value = "/bookings/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public IngestionResponse confirmBookings(@RequestBody List<BookingDTO> dtos) {
+        log.info("Confirming batch of {} bookings", dtos.size());
+        return ingestionService.ingestBookings(IngestionItem.of(dtos));
+    }
+
+    @PostMapping(value = "/bookings/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public IngestionResponse confirmBookingsStream(InputStream body) {
+        log.info("Confirming booking stream");
+        return ingestionService.ingestBookings(new NdjsonReader<>(body, objectMapper, BookingDTO.class));
+    }
+
     @GetMapping("/users")
     public List<UserDTO> getAllUsers() {
         log.info("Fetching all users");
@@ -151,12 +183,58 @@ public class AnalyticsController {
                 .collect(Collectors.toList());
     }
 
+    @GetMapping("/users/page")
+    public KeysetPage<UserDTO> getUsersPage(@RequestParam(required = false) UUID after,
+                                            @RequestParam(defaultValue = "100") int size) {
+        log.info("Fetching users page after {}", after);
+        return page(userService.findPage(after, checkPageSize(size) + 1), size,
+                u -> new UserDTO(u.getId(), u.getUsername()),
+                UserDTO::getId);
+    }
+
+    @GetMapping(value = "/users/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody exportUsers() {
+        log.info("Exporting users");
+        return exportService::exportUsers;
+    }
+
     @PostMapping("/users")
     public void addUser(@RequestBody UserDTO dto) {
         log.info("Adding user '{}' with id {}", dto.getUsername(), dto.getId());
         User user = new User(dto.getId(), dto.getUsername());
+        boolean isNew = !userService.existsById(dto.getId());
         userService.save(user);
+        if (isNew) {
+            dashboardService.recordUser();
+        }
         log.info("User '{}' added successfully", dto.getUsername());
     }
 
+    @PostMapping(value = "/users/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public IngestionResponse addUsers(@RequestBody List<UserDTO> dtos) {
+        log.info("Adding batch of {} users", dtos.size());
+        return ingestionService.ingestUsers(IngestionItem.of(dtos));
+    }
+
+    @PostMapping(value = "/users/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public IngestionResponse addUsersStream(InputStream body) {
+        log.info("Adding user stream");
+        return ingestionService.ingestUsers(new NdjsonReader<>(body, objectMapper, UserDTO.class));
+    }
+
+    private static int checkPageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return size;
+    }
+
+    private static <E, D> KeysetPage<D> page(List<E> rows, int size, Function<E, D> mapper, Function<D, UUID> idOf) {
+        List<D> items = rows.stream()
+                .limit(size)
+                .map(mapper)
+                .collect(Collectors.toList());
+        UUID nextCursor = rows.size() > size ? idOf.apply(items.get(items.size() - 1)) : null;
+        return new KeysetPage<>(items, nextCursor);
+    }
 }
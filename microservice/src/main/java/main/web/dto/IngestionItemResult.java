@@ -0,0 +1,17 @@
+package main.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class IngestionItemResult {
+    private int index;
+    private UUID id;
+    private IngestionStatus status;
+    private String message;
+}
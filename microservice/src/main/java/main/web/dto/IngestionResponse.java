@@ -0,0 +1,36 @@
+package main.web.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Totals for an ingestion run. Only rejected items (invalid or failed) are listed,
+ * and at most {@link #MAX_REPORTED_ITEMS} of them, so the response stays bounded
+ * however large the import is.
+ */
+@Data
+public class IngestionResponse {
+    public static final int MAX_REPORTED_ITEMS = 100;
+
+    private int received;
+    private Map<IngestionStatus, Integer> totals = new EnumMap<>(IngestionStatus.class);
+    private List<IngestionItemResult> rejected = new ArrayList<>();
+    private boolean truncated;
+
+    public void add(int index, UUID id, IngestionStatus status, String message) {
+        totals.merge(status, 1, Integer::sum);
+        if (status != IngestionStatus.INVALID && status != IngestionStatus.FAILED) {
+            return;
+        }
+        if (rejected.size() < MAX_REPORTED_ITEMS) {
+            rejected.add(new IngestionItemResult(index, id, status, message));
+        } else {
+            truncated = true;
+        }
+    }
+}
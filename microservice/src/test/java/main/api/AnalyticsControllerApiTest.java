@@ -6,10 +6,16 @@ import main.entity.Booking;
 import main.entity.Event;
 import main.entity.User;
 import main.service.BookingService;
+import main.service.DashboardService;
 import main.service.EventService;
+import main.service.ExportService;
+import main.service.IngestionItem;
+import main.service.IngestionService;
 import main.service.UserService;
 import main.web.dto.BookingDTO;
 import main.web.dto.EventDTO;
+import main.web.dto.IngestionResponse;
+import main.web.dto.IngestionStatus;
 import main.web.dto.UserDTO;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,7 +30,10 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -47,6 +56,15 @@ public class AnalyticsControllerApiTest {
     @Autowired
     private BookingService bookingService;
 
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private IngestionService ingestionService;
+
+    @Autowired
+    private ExportService exportService;
+
     private ObjectMapper objectMapper;
     private UUID userId;
     private UUID eventId;
@@ -60,6 +78,7 @@ public class AnalyticsControllerApiTest {
         eventId = UUID.randomUUID();
         bookingId = UUID.randomUUID();
 
+        Mockito.reset(userService, eventService, bookingService, dashboardService, ingestionService, exportService);
     }
 
     @TestConfiguration
@@ -79,16 +98,33 @@ public class AnalyticsControllerApiTest {
         BookingService bookingService() {
             return Mockito.mock(BookingService.class);
         }
+
+        @Bean
+        DashboardService dashboardService() {
+            return Mockito.mock(DashboardService.class);
+        }
+
+        @Bean
+        IngestionService ingestionService() {
+            return Mockito.mock(IngestionService.class);
+        }
+
+        @Bean
+        ExportService exportService() {
+            return Mockito.mock(ExportService.class);
+        }
     }
 
     @Test
     void testGetDashboard() throws Exception {
-        Mockito.when(userService.count()).thenReturn(1L);
-        Mockito.when(eventService.count()).thenReturn(1L);
-        Mockito.when(bookingService.count()).thenReturn(1L);
-        Mockito.when(bookingService.findAll()).thenReturn(Collections.emptyList());
-        Mockito.when(eventService.findAll()).thenReturn(Collections.emptyList());
-        Mockito.when(userService.findAll()).thenReturn(Collections.emptyList());
+        Map<String, Object> dashboard = new HashMap<>();
+        dashboard.put("totalUsers", 1L);
+        dashboard.put("totalEvents", 1L);
+        dashboard.put("totalBookings", 1L);
+        dashboard.put("totalRevenue", 0.0);
+        dashboard.put("topEvents", Collections.emptyList());
+        dashboard.put("seatWarnings", Collections.emptyList());
+        Mockito.when(dashboardService.getDashboard()).thenReturn(dashboard);
 
         mockMvc.perform(get("/api/dashboard"))
                 .andExpect(status().isOk())
@@ -98,46 +134,8 @@ public class AnalyticsControllerApiTest {
                 .andExpect(jsonPath("$.totalRevenue").value(0))
                 .andExpect(jsonPath("$.topEvents").isArray())
                 .andExpect(jsonPath("$.seatWarnings").isArray());
-    }
 
-    @Test
-    void testGetDashboardWithData_fullCoverage() throws Exception {
-        UUID user1 = UUID.randomUUID();
-        UUID user2 = UUID.randomUUID();
-
-        User u1 = new User(user1, "Alice");
-        User u2 = new User(user2, "Bob");
-
-        UUID event1 = UUID.randomUUID();
-        UUID event2 = UUID.randomUUID();
-
-        Event e1 = new Event(event1, "Concert", 100, 50.0);
-        Event e2 = new Event(event2, "Workshop", 10, 20.0);
-
-        Booking b1 = new Booking(UUID.randomUUID(), event1, user1, 3, 150.0);
-        Booking b2 = new Booking(UUID.randomUUID(), event1, user2, 5, 250.0);
-        Booking b3 = new Booking(UUID.randomUUID(), event2, user1, 6, 120.0);
-
-        Mockito.when(userService.count()).thenReturn(2L);
-        Mockito.when(eventService.count()).thenReturn(2L);
-        Mockito.when(bookingService.count()).thenReturn(3L);
-
-        Mockito.when(userService.findAll()).thenReturn(List.of(u1, u2));
-        Mockito.when(eventService.findAll()).thenReturn(List.of(e1, e2));
-        Mockito.when(bookingService.findAll()).thenReturn(List.of(b1, b2, b3));
-
-        mockMvc.perform(get("/api/dashboard"))
-                .andExpect(status().isOk())
-
-                .andExpect(jsonPath("$.totalUsers").value(2))
-                .andExpect(jsonPath("$.totalEvents").value(2))
-                .andExpect(jsonPath("$.totalBookings").value(3))
-                .andExpect(jsonPath("$.totalRevenue").value(520.0))
-
-                .andExpect(jsonPath("$.topEvents[0].name").value("Concert"))
-                .andExpect(jsonPath("$.topEvents[0].totalSeatsBooked").value(8))
-                .andExpect(jsonPath("$.seatWarnings[0].eventName").value("Workshop"))
-                .andExpect(jsonPath("$.seatWarnings[0].freeSeats").value(4));
+        Mockito.verify(bookingService, Mockito.never()).findAll();
     }
 
     @Test
@@ -150,6 +148,7 @@ public class AnalyticsControllerApiTest {
                 .andExpect(status().isOk());
 
         Mockito.verify(userService).save(any(User.class));
+        Mockito.verify(dashboardService).recordUser();
     }
 
     @Test
@@ -173,6 +172,7 @@ public class AnalyticsControllerApiTest {
                 .andExpect(status().isOk());
 
         Mockito.verify(eventService).save(any(Event.class));
+        Mockito.verify(dashboardService).recordEvent(any(Event.class), Mockito.eq(true));
     }
 
     @Test
@@ -188,6 +188,40 @@ public class AnalyticsControllerApiTest {
                 .andExpect(jsonPath("$[0].price").value(50.0));
     }
 
+    @Test
+    void testGetEventsPage_returnsCursorWhenMoreRowsExist() throws Exception {
+        Event first = new Event(eventId, "Concert", 100, 50.0);
+        Event second = new Event(UUID.randomUUID(), "Theater", 50, 30.0);
+        Mockito.when(eventService.findPage(null, 2)).thenReturn(List.of(first, second));
+
+        mockMvc.perform(get("/api/events/page").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].id").value(eventId.toString()))
+                .andExpect(jsonPath("$.nextCursor").value(eventId.toString()));
+    }
+
+    @Test
+    void testGetEventsPage_lastPageHasNoCursor() throws Exception {
+        Event event = new Event(eventId, "Concert", 100, 50.0);
+        Mockito.when(eventService.findPage(bookingId, 11)).thenReturn(List.of(event));
+
+        mockMvc.perform(get("/api/events/page")
+                        .param("after", bookingId.toString())
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void testGetUsersPage_rejectsOversizedPage() throws Exception {
+        mockMvc.perform(get("/api/users/page").param("size", "5000"))
+                .andExpect(status().isBadRequest());
+
+        Mockito.verifyNoInteractions(userService);
+    }
+
     @Test
     void testConfirmBooking() throws Exception {
         BookingDTO dto = new BookingDTO(bookingId, eventId, userId, 2, 100.0);
@@ -198,6 +232,69 @@ public class AnalyticsControllerApiTest {
                 .andExpect(status().isOk());
 
         Mockito.verify(bookingService).save(any(Booking.class));
+        Mockito.verify(dashboardService).recordBooking(any(Booking.class));
+    }
+
+    @Test
+    void testConfirmBooking_alreadyRecorded_isSkipped() throws Exception {
+        BookingDTO dto = new BookingDTO(bookingId, eventId, userId, 2, 100.0);
+        Mockito.when(bookingService.existsById(bookingId)).thenReturn(true);
+
+        mockMvc.perform(post("/api/bookings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isOk());
+
+        Mockito.verify(bookingService, Mockito.never()).save(any(Booking.class));
+        Mockito.verify(dashboardService, Mockito.never()).recordBooking(any(Booking.class));
+    }
+
+    @Test
+    void testConfirmBookingsBatch_returnsTotals() throws Exception {
+        List<BookingDTO> dtos = List.of(
+                new BookingDTO(bookingId, eventId, userId, 2, 100.0),
+                new BookingDTO(bookingId, eventId, userId, 2, 100.0));
+
+        IngestionResponse response = new IngestionResponse();
+        response.setReceived(2);
+        response.add(0, bookingId, IngestionStatus.CREATED, null);
+        response.add(1, bookingId, IngestionStatus.DUPLICATE, null);
+        Mockito.when(ingestionService.ingestBookings(any())).thenReturn(response);
+
+        mockMvc.perform(post("/api/bookings/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dtos)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(2))
+                .andExpect(jsonPath("$.totals.CREATED").value(1))
+                .andExpect(jsonPath("$.totals.DUPLICATE").value(1))
+                .andExpect(jsonPath("$.rejected").isEmpty())
+                .andExpect(jsonPath("$.truncated").value(false));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testAddEventsStream_readsNdjsonLines() throws Exception {
+        String body = objectMapper.writeValueAsString(new EventDTO(eventId, "Concert", 100, 50.0)) + "\n"
+                + "not json\n";
+        Mockito.when(ingestionService.ingestEvents(any())).thenAnswer(invocation -> {
+            Iterator<IngestionItem<EventDTO>> items = invocation.getArgument(0);
+            IngestionResponse response = new IngestionResponse();
+            items.forEachRemaining(item -> response.add(item.index(),
+                    item.value() != null ? item.value().getId() : null,
+                    item.error() == null ? IngestionStatus.CREATED : IngestionStatus.INVALID,
+                    item.error()));
+            return response;
+        });
+
+        mockMvc.perform(post("/api/events/batch")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totals.CREATED").value(1))
+                .andExpect(jsonPath("$.rejected.length()").value(1))
+                .andExpect(jsonPath("$.rejected[0].index").value(1))
+                .andExpect(jsonPath("$.rejected[0].status").value("INVALID"));
     }
 
     @Test
@@ -0,0 +1,87 @@
+package main.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import main.entity.Event;
+import main.service.EventService;
+import main.service.ExportService;
+import main.web.dto.EventDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@AutoConfigureTestDatabase
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class ExportServiceIntegrationTest {
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private EventService eventService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void exportEvents_writesOneJsonObjectPerLine() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            eventService.save(new Event(UUID.randomUUID(), "Event " + i, 10 * i, 5.0 * i));
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long written = exportService.exportEvents(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, written);
+        assertEquals(3, lines.length);
+        Set<String> names = new HashSet<>();
+        for (String line : lines) {
+            names.add(objectMapper.readValue(line, EventDTO.class).getName());
+        }
+        assertEquals(Set.of("Event 0", "Event 1", "Event 2"), names);
+    }
+
+    @Test
+    void exportEvents_emptyTable_writesNothing() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertEquals(0, exportService.exportEvents(out));
+        assertEquals(0, out.size());
+    }
+
+    @Test
+    void findPage_walksAllRowsInIdOrderWithoutGapsOrRepeats() {
+        Set<UUID> saved = new HashSet<>();
+        for (int i = 0; i < 7; i++) {
+            UUID id = UUID.randomUUID();
+            saved.add(id);
+            eventService.save(new Event(id, "Event " + i, 10, 5.0));
+        }
+
+        List<UUID> seen = new ArrayList<>();
+        UUID after = null;
+        List<Event> page;
+        do {
+            page = eventService.findPage(after, 3);
+            page.forEach(event -> seen.add(event.getId()));
+            if (!page.isEmpty()) {
+                after = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == 3);
+
+        assertEquals(7, seen.size());
+        assertEquals(saved, new HashSet<>(seen));
+    }
+}
@@ -0,0 +1,130 @@
+package main.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import main.service.BookingService;
+import main.service.DashboardService;
+import main.service.EventService;
+import main.service.IngestionItem;
+import main.service.IngestionService;
+import main.service.NdjsonReader;
+import main.web.dto.BookingDTO;
+import main.web.dto.EventDTO;
+import main.web.dto.IngestionResponse;
+import main.web.dto.IngestionStatus;
+import main.web.dto.UserDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "ingestion.chunk-size=2")
+@AutoConfigureTestDatabase
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class IngestionServiceIntegrationTest {
+
+    @Autowired
+    private IngestionService ingestionService;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void ingestBookings_insertsAcrossChunksAndReportsDuplicates() {
+        UUID duplicateId = UUID.randomUUID();
+        List<BookingDTO> dtos = new ArrayList<>();
+        dtos.add(new BookingDTO(duplicateId, UUID.randomUUID(), UUID.randomUUID(), 2, 20.0));
+        dtos.add(new BookingDTO(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), 1, 10.0));
+        dtos.add(new BookingDTO(duplicateId, UUID.randomUUID(), UUID.randomUUID(), 2, 20.0));
+        dtos.add(new BookingDTO(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), 1, -5.0));
+        dtos.add(new BookingDTO(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), 3, 30.0));
+
+        IngestionResponse response = ingestionService.ingestBookings(IngestionItem.of(dtos));
+
+        assertEquals(5, response.getReceived());
+        assertEquals(3, response.getTotals().get(IngestionStatus.CREATED));
+        assertEquals(1, response.getTotals().get(IngestionStatus.DUPLICATE));
+        assertEquals(1, response.getTotals().get(IngestionStatus.INVALID));
+        assertEquals(1, response.getRejected().size());
+        assertEquals(3, response.getRejected().get(0).getIndex());
+        assertEquals("Price cannot be negative", response.getRejected().get(0).getMessage());
+        assertEquals(3, bookingService.findAll().size());
+
+        Map<String, Object> dashboard = dashboardService.getDashboard();
+        assertEquals(3L, dashboard.get("totalBookings"));
+        assertEquals(60.0, dashboard.get("totalRevenue"));
+    }
+
+    @Test
+    void ingestBookings_secondDeliveryIsIdempotent() {
+        List<BookingDTO> dtos = List.of(
+                new BookingDTO(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), 2, 20.0),
+                new BookingDTO(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), 1, 10.0));
+
+        ingestionService.ingestBookings(IngestionItem.of(dtos));
+        IngestionResponse again = ingestionService.ingestBookings(IngestionItem.of(dtos));
+
+        assertEquals(2, again.getTotals().get(IngestionStatus.DUPLICATE));
+        assertEquals(2, bookingService.findAll().size());
+        assertEquals(2L, dashboardService.getDashboard().get("totalBookings"));
+    }
+
+    @Test
+    void ingestEvents_fromNdjson_upsertsAndFlagsMalformedLines() throws Exception {
+        UUID eventId = UUID.randomUUID();
+        String body = objectMapper.writeValueAsString(new EventDTO(eventId, "Concert", 100, 50.0)) + "\n"
+                + "{not json\n"
+                + "\n"
+                + objectMapper.writeValueAsString(new EventDTO(eventId, "Concert Live", 120, 50.0)) + "\n";
+
+        IngestionResponse response = ingestionService.ingestEvents(new NdjsonReader<>(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), objectMapper, EventDTO.class));
+
+        assertEquals(3, response.getReceived());
+        assertEquals(1, response.getTotals().get(IngestionStatus.CREATED));
+        assertEquals(1, response.getTotals().get(IngestionStatus.UPDATED));
+        assertEquals(1, response.getRejected().size());
+        assertEquals(IngestionStatus.INVALID, response.getRejected().get(0).getStatus());
+        assertEquals(1, response.getRejected().get(0).getIndex());
+
+        assertEquals(1, eventService.findAll().size());
+        assertEquals("Concert Live", eventService.findAll().get(0).getName());
+        assertEquals(120, eventService.findAll().get(0).getTotalSeats());
+        assertEquals(1L, dashboardService.getDashboard().get("totalEvents"));
+    }
+
+    @Test
+    void ingestUsers_reportsOnlyTheFirstRejectedItems() {
+        List<UserDTO> dtos = new ArrayList<>();
+        for (int i = 0; i < IngestionResponse.MAX_REPORTED_ITEMS + 10; i++) {
+            dtos.add(new UserDTO(null, "user" + i));
+        }
+        dtos.add(new UserDTO(UUID.randomUUID(), "valid"));
+
+        IngestionResponse response = ingestionService.ingestUsers(IngestionItem.of(dtos));
+
+        assertEquals(IngestionResponse.MAX_REPORTED_ITEMS + 11, response.getReceived());
+        assertEquals(IngestionResponse.MAX_REPORTED_ITEMS + 10, response.getTotals().get(IngestionStatus.INVALID));
+        assertEquals(1, response.getTotals().get(IngestionStatus.CREATED));
+        assertEquals(IngestionResponse.MAX_REPORTED_ITEMS, response.getRejected().size());
+        assertEquals(0, response.getRejected().get(0).getIndex());
+        assertTrue(response.isTruncated());
+    }
+}
@@ -0,0 +1,151 @@
+package main.service;
+
+import main.entity.Booking;
+import main.entity.Event;
+import main.repositories.BookingRepository;
+import main.repositories.EventBookingTotals;
+import main.repositories.EventRepository;
+import main.repositories.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class DashboardServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @InjectMocks
+    private DashboardService dashboardService;
+
+    @Test
+    void recordEventsAndBookings_buildsDashboardIncrementally() {
+        UUID event1 = UUID.randomUUID();
+        UUID event2 = UUID.randomUUID();
+
+        dashboardService.recordUser();
+        dashboardService.recordUser();
+        dashboardService.recordEvent(new Event(event1, "Concert", 100, 50.0), true);
+        dashboardService.recordEvent(new Event(event2, "Workshop", 10, 20.0), true);
+        dashboardService.recordBooking(new Booking(UUID.randomUUID(), event1, UUID.randomUUID(), 3, 150.0));
+        dashboardService.recordBooking(new Booking(UUID.randomUUID(), event1, UUID.randomUUID(), 5, 250.0));
+        dashboardService.recordBooking(new Booking(UUID.randomUUID(), event2, UUID.randomUUID(), 6, 120.0));
+
+        Map<String, Object> dashboard = dashboardService.getDashboard();
+
+        assertEquals(2L, dashboard.get("totalUsers"));
+        assertEquals(2L, dashboard.get("totalEvents"));
+        assertEquals(3L, dashboard.get("totalBookings"));
+        assertEquals(520.0, dashboard.get("totalRevenue"));
+
+        List<Map<String, Object>> topEvents = topEvents(dashboard);
+        assertEquals(2, topEvents.size());
+        assertEquals("Concert", topEvents.get(0).get("name"));
+        assertEquals(8L, topEvents.get(0).get("totalSeatsBooked"));
+
+        List<Map<String, Object>> seatWarnings = seatWarnings(dashboard);
+        assertEquals(1, seatWarnings.size());
+        assertEquals("Workshop", seatWarnings.get(0).get("eventName"));
+        assertEquals(4L, seatWarnings.get(0).get("freeSeats"));
+
+        verifyNoInteractions(bookingRepository, eventRepository, userRepository);
+    }
+
+    @Test
+    void recordBooking_beforeEvent_isCountedOnceEventArrives() {
+        UUID eventId = UUID.randomUUID();
+
+        dashboardService.recordBooking(new Booking(UUID.randomUUID(), eventId, UUID.randomUUID(), 7, 70.0));
+        assertTrue(topEvents(dashboardService.getDashboard()).isEmpty());
+
+        dashboardService.recordEvent(new Event(eventId, "Theater", 10, 10.0), true);
+
+        Map<String, Object> dashboard = dashboardService.getDashboard();
+        assertEquals(7L, topEvents(dashboard).get(0).get("totalSeatsBooked"));
+        assertEquals(3L, seatWarnings(dashboard).get(0).get("freeSeats"));
+    }
+
+    @Test
+    void recordEvent_existingEvent_updatesWithoutDoubleCounting() {
+        UUID eventId = UUID.randomUUID();
+
+        dashboardService.recordEvent(new Event(eventId, "Concert", 100, 50.0), true);
+        dashboardService.recordBooking(new Booking(UUID.randomUUID(), eventId, UUID.randomUUID(), 4, 200.0));
+        dashboardService.recordEvent(new Event(eventId, "Concert Live", 8, 50.0), false);
+
+        Map<String, Object> dashboard = dashboardService.getDashboard();
+        assertEquals(1L, dashboard.get("totalEvents"));
+        assertEquals(1, topEvents(dashboard).size());
+        assertEquals("Concert Live", topEvents(dashboard).get(0).get("name"));
+        assertEquals(4L, seatWarnings(dashboard).get(0).get("freeSeats"));
+    }
+
+    @Test
+    void topEvents_isLimitedAndOrderedBySeatsBooked() {
+        for (int i = 1; i <= 5; i++) {
+            UUID eventId = UUID.randomUUID();
+            dashboardService.recordEvent(new Event(eventId, "Event " + i, 1000, 10.0), true);
+            dashboardService.recordBooking(new Booking(UUID.randomUUID(), eventId, UUID.randomUUID(), i * 10, 10.0));
+        }
+
+        List<Map<String, Object>> topEvents = topEvents(dashboardService.getDashboard());
+
+        assertEquals(DashboardService.TOP_EVENTS_LIMIT, topEvents.size());
+        assertEquals("Event 5", topEvents.get(0).get("name"));
+        assertEquals("Event 4", topEvents.get(1).get("name"));
+        assertEquals("Event 3", topEvents.get(2).get("name"));
+    }
+
+    @Test
+    void rebuild_loadsAggregatesWithGroupedQueries() {
+        UUID eventId = UUID.randomUUID();
+        EventBookingTotals totals = mock(EventBookingTotals.class);
+        when(totals.getEventId()).thenReturn(eventId);
+        when(totals.getSeatsBooked()).thenReturn(8L);
+        when(totals.getRevenue()).thenReturn(400.0);
+        when(totals.getBookings()).thenReturn(2L);
+
+        when(bookingRepository.sumByEvent()).thenReturn(List.of(totals));
+        when(eventRepository.findAll()).thenReturn(List.of(new Event(eventId, "Concert", 10, 50.0)));
+        when(userRepository.count()).thenReturn(4L);
+
+        dashboardService.rebuild();
+
+        Map<String, Object> dashboard = dashboardService.getDashboard();
+        assertEquals(4L, dashboard.get("totalUsers"));
+        assertEquals(1L, dashboard.get("totalEvents"));
+        assertEquals(2L, dashboard.get("totalBookings"));
+        assertEquals(400.0, dashboard.get("totalRevenue"));
+        assertEquals(8L, topEvents(dashboard).get(0).get("totalSeatsBooked"));
+        assertEquals(2L, seatWarnings(dashboard).get(0).get("freeSeats"));
+
+        verify(bookingRepository, never()).findAll();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> topEvents(Map<String, Object> dashboard) {
+        return (List<Map<String, Object>>) dashboard.get("topEvents");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> seatWarnings(Map<String, Object> dashboard) {
+        return (List<Map<String, Object>>) dashboard.get("seatWarnings");
+    }
+}